@@ -19,4 +19,28 @@ public interface CoreConfig {
     )
     public Boolean enableLogs();
 
+    @ConfigDescription(
+            value = "Maximum number of access logs waiting to be written",
+            defaultInt = 10000
+    )
+    public int logsQueueSize();
+
+    @ConfigDescription(
+            value = "Maximum number of access logs written at once",
+            defaultInt = 500
+    )
+    public int logsBatchSize();
+
+    @ConfigDescription(
+            value = "Maximum delay in milliseconds before writing pending access logs",
+            defaultLong = 5000
+    )
+    public long logsFlushInterval();
+
+    @ConfigDescription(
+            value = "Block requests when access logs queue is full instead of dropping logs",
+            defaultBoolean = false
+    )
+    public boolean logsBlockWhenFull();
+
 }
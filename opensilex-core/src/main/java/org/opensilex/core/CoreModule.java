@@ -8,11 +8,18 @@ package org.opensilex.core;
 import com.auth0.jwt.JWTCreator;
 import org.opensilex.OpenSilexModule;
 
+import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.vocabulary.OA;
+import org.opensilex.core.experiment.dal.ExperimentDAO;
+import org.opensilex.core.logs.dal.LogsDAO;
+import org.opensilex.core.logs.dal.LogsWriter;
 import org.opensilex.core.ontology.Oeso;
+import org.opensilex.nosql.service.NoSQLService;
 import org.opensilex.security.extensions.LoginExtension;
+import org.opensilex.security.extensions.UserAccessExtension;
 import org.opensilex.security.user.dal.UserModel;
 import org.opensilex.server.extensions.APIExtension;
 import org.opensilex.server.rest.cache.JCSApiCacheExtension;
@@ -26,10 +33,12 @@ import org.slf4j.LoggerFactory;
 /**
  * Core OpenSILEX module implementation
  */
-public class CoreModule extends OpenSilexModule implements APIExtension, LoginExtension, SPARQLExtension, JCSApiCacheExtension {
+public class CoreModule extends OpenSilexModule implements APIExtension, LoginExtension, UserAccessExtension, SPARQLExtension, JCSApiCacheExtension {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(CoreModule.class);
 
+    private LogsWriter logsWriter;
+
     @Override
     public Class<?> getConfigClass() {
         return CoreConfig.class;
@@ -46,6 +55,11 @@ public class CoreModule extends OpenSilexModule implements APIExtension, LoginEx
         // TODO add experiments, projects, infrastructures related to the user as token claims...
     }
 
+    @Override
+    public void usersAccessChanged(Collection<URI> usersURIs) throws Exception {
+        ExperimentDAO.getAccessIndex().invalidateUsers(usersURIs);
+    }
+
     @Override
     public List<String> getPackagesToScan() {
         List<String> list = APIExtension.super.getPackagesToScan();
@@ -87,4 +101,37 @@ public class CoreModule extends OpenSilexModule implements APIExtension, LoginEx
         URIDeserializer.setPrefixes(SPARQLService.getPrefixMapping(), true);
     }
 
+    @Override
+    public void startup() throws Exception {
+        CoreConfig config = getConfig(CoreConfig.class);
+        if (config.enableLogs()) {
+            NoSQLService nosql = getOpenSilex().getServiceInstance(NoSQLService.DEFAULT_NOSQL_SERVICE, NoSQLService.class);
+            logsWriter = new LogsWriter(
+                    new LogsDAO(nosql),
+                    config.logsQueueSize(),
+                    config.logsBatchSize(),
+                    config.logsFlushInterval(),
+                    config.logsBlockWhenFull()
+            );
+        }
+    }
+
+    @Override
+    public void shutdown() throws Exception {
+        if (logsWriter != null) {
+            LOGGER.debug("Write pending user access logs");
+            logsWriter.shutdown();
+            logsWriter = null;
+        }
+    }
+
+    /**
+     * Return user access logs writer.
+     *
+     * @return logs writer or null if access logs are disabled
+     */
+    public LogsWriter getLogsWriter() {
+        return logsWriter;
+    }
+
 }
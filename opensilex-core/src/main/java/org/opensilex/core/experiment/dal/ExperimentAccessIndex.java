@@ -0,0 +1,286 @@
+//******************************************************************************
+//                          ExperimentAccessIndex.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.core.experiment.dal;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.syntax.ElementGroup;
+import org.apache.jena.sparql.syntax.ElementUnion;
+import org.opensilex.core.ontology.Oeso;
+import org.opensilex.security.authentication.SecurityOntology;
+import org.opensilex.sparql.deserializer.SPARQLDeserializers;
+import org.opensilex.sparql.service.SPARQLQueryHelper;
+import org.opensilex.sparql.service.SPARQLResult;
+import org.opensilex.sparql.service.SPARQLService;
+import static org.opensilex.sparql.service.SPARQLQueryHelper.makeVar;
+
+/**
+ * In memory index of experiments readable by users.
+ *
+ * For each user, the index keeps the experiments on which the user is member
+ * of a group or supervisor. Public experiments are kept in a separated set
+ * shared by all users. Users entries are loaded on first access with a single
+ * query and updated on experiments or groups modifications done through the
+ * API.
+ *
+ * Modifications done outside of the API (direct triplestore updates, other
+ * application instances) are not seen until entries expire: an index may be
+ * stale for at most its time to live, {@link #DEFAULT_TTL} by default.
+ *
+ * @author Vincent MIGOT
+ */
+public class ExperimentAccessIndex {
+
+    /**
+     * Default time to live of index entries in milliseconds.
+     */
+    public final static long DEFAULT_TTL = 300000;
+
+    private final static String USER_FIELD = "_user";
+
+    private final long ttl;
+
+    private final Map<URI, IndexEntry> usersExperiments = new ConcurrentHashMap<>();
+
+    private volatile IndexEntry publicExperiments;
+
+    /**
+     * Incremented on each modification to avoid storing entries loaded before
+     * it.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    public ExperimentAccessIndex() {
+        this(DEFAULT_TTL);
+    }
+
+    public ExperimentAccessIndex(long ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * Return URIs of experiments on which the given user is member of a group
+     * or supervisor, public experiments are not included.
+     *
+     * @param sparql SPARQL service used to load missing entries
+     * @param userURI user URI
+     * @return user experiments URIs
+     * @throws Exception in case of query error
+     */
+    public Set<URI> getUserExperiments(SPARQLService sparql, URI userURI) throws Exception {
+        URI key = expand(userURI);
+        IndexEntry entry = usersExperiments.get(key);
+        if (entry != null && !entry.isExpired()) {
+            return entry.experiments;
+        }
+
+        long loadVersion = version.get();
+        entry = new IndexEntry(loadUserExperiments(sparql, key), System.currentTimeMillis() + ttl);
+        if (version.get() == loadVersion) {
+            usersExperiments.put(key, entry);
+        }
+
+        return entry.experiments;
+    }
+
+    /**
+     * Check if user can read the given experiment.
+     *
+     * @param sparql SPARQL service used to load missing entries
+     * @param userURI user URI
+     * @param experimentURI experiment URI
+     * @return true if user is member of an experiment group, supervisor of the
+     * experiment or if experiment is public
+     * @throws Exception in case of query error
+     */
+    public boolean canRead(SPARQLService sparql, URI userURI, URI experimentURI) throws Exception {
+        URI xpURI = expand(experimentURI);
+        return getPublicExperiments(sparql).contains(xpURI) || getUserExperiments(sparql, userURI).contains(xpURI);
+    }
+
+    /**
+     * Update index entries of the given experiment after its creation or
+     * update.
+     *
+     * @param sparql SPARQL service
+     * @param experiment created or updated experiment
+     * @throws Exception in case of query error
+     */
+    public void experimentChanged(SPARQLService sparql, ExperimentModel experiment) throws Exception {
+        version.incrementAndGet();
+
+        URI xpURI = expand(experiment.getUri());
+        Set<URI> readers = loadExperimentReaders(sparql, xpURI);
+
+        for (Map.Entry<URI, IndexEntry> entry : usersExperiments.entrySet()) {
+            if (readers.contains(entry.getKey())) {
+                entry.getValue().experiments.add(xpURI);
+            } else {
+                entry.getValue().experiments.remove(xpURI);
+            }
+        }
+
+        IndexEntry publicEntry = publicExperiments;
+        if (publicEntry != null) {
+            if (Boolean.TRUE.equals(experiment.getIsPublic())) {
+                publicEntry.experiments.add(xpURI);
+            } else {
+                publicEntry.experiments.remove(xpURI);
+            }
+        }
+    }
+
+    /**
+     * Remove deleted experiments from index.
+     *
+     * @param experimentsURIs deleted experiments URIs
+     */
+    public void experimentsDeleted(Collection<URI> experimentsURIs) {
+        version.incrementAndGet();
+
+        Set<URI> xpURIs = new HashSet<>();
+        for (URI experimentURI : experimentsURIs) {
+            xpURIs.add(expand(experimentURI));
+        }
+
+        for (IndexEntry entry : usersExperiments.values()) {
+            entry.experiments.removeAll(xpURIs);
+        }
+
+        IndexEntry publicEntry = publicExperiments;
+        if (publicEntry != null) {
+            publicEntry.experiments.removeAll(xpURIs);
+        }
+    }
+
+    /**
+     * Remove index entries of the given users, they will be loaded again on
+     * next access.
+     *
+     * @param usersURIs users URIs
+     */
+    public void invalidateUsers(Collection<URI> usersURIs) {
+        version.incrementAndGet();
+        for (URI userURI : usersURIs) {
+            usersExperiments.remove(expand(userURI));
+        }
+    }
+
+    /**
+     * Remove all index entries.
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+        usersExperiments.clear();
+        publicExperiments = null;
+    }
+
+    private Set<URI> getPublicExperiments(SPARQLService sparql) throws Exception {
+        IndexEntry entry = publicExperiments;
+        if (entry != null && !entry.isExpired()) {
+            return entry.experiments;
+        }
+
+        long loadVersion = version.get();
+        Set<URI> experiments = toIndexSet(sparql.searchURIs(ExperimentModel.class, null, (SelectBuilder select) -> {
+            select.addFilter(SPARQLQueryHelper.eq(ExperimentModel.IS_PUBLIC_FIELD, Boolean.TRUE));
+        }));
+        entry = new IndexEntry(experiments, System.currentTimeMillis() + ttl);
+        if (version.get() == loadVersion) {
+            publicExperiments = entry;
+        }
+
+        return entry.experiments;
+    }
+
+    private Set<URI> loadUserExperiments(SPARQLService sparql, URI userURI) throws Exception {
+        Node userNode = SPARQLDeserializers.nodeURI(userURI);
+        return toIndexSet(sparql.searchURIs(ExperimentModel.class, null, (SelectBuilder select) -> {
+            select.setDistinct(true);
+            select.getWhereHandler().getClause().addElement(getReadersUnion(makeVar(ExperimentModel.URI_FIELD), userNode));
+        }));
+    }
+
+    private Set<URI> loadExperimentReaders(SPARQLService sparql, URI experimentURI) throws Exception {
+        Var userVar = makeVar(USER_FIELD);
+
+        SelectBuilder select = new SelectBuilder();
+        select.setDistinct(true);
+        select.addVar(userVar);
+        select.getWhereHandler().getClause().addElement(getReadersUnion(SPARQLDeserializers.nodeURI(experimentURI), userVar));
+
+        Set<URI> readers = new HashSet<>();
+        for (SPARQLResult result : sparql.executeSelectQuery(select)) {
+            readers.add(expand(new URI(result.getStringValue(USER_FIELD))));
+        }
+        return readers;
+    }
+
+    /**
+     * Build the union of the three ways for a user to read an experiment: as
+     * member of one of its groups, as scientific supervisor or as technical
+     * supervisor.
+     */
+    private static ElementUnion getReadersUnion(Node experiment, Node user) {
+        Var groupVar = makeVar(ExperimentModel.GROUP_FIELD);
+        Var userProfileVar = makeVar("_userProfile");
+
+        ElementGroup inGroup = new ElementGroup();
+        inGroup.addTriplePattern(new Triple(experiment, SecurityOntology.hasGroup.asNode(), groupVar));
+        inGroup.addTriplePattern(new Triple(groupVar, SecurityOntology.hasUserProfile.asNode(), userProfileVar));
+        inGroup.addTriplePattern(new Triple(userProfileVar, SecurityOntology.hasUser.asNode(), user));
+
+        ElementGroup hasScientificSupervisor = new ElementGroup();
+        hasScientificSupervisor.addTriplePattern(new Triple(experiment, Oeso.hasScientificSupervisor.asNode(), user));
+
+        ElementGroup hasTechnicalSupervisor = new ElementGroup();
+        hasTechnicalSupervisor.addTriplePattern(new Triple(experiment, Oeso.hasTechnicalSupervisor.asNode(), user));
+
+        ElementUnion union = new ElementUnion();
+        union.addElement(inGroup);
+        union.addElement(hasScientificSupervisor);
+        union.addElement(hasTechnicalSupervisor);
+        return union;
+    }
+
+    private static Set<URI> toIndexSet(Collection<URI> uris) {
+        Set<URI> set = ConcurrentHashMap.newKeySet(uris.size());
+        for (URI uri : uris) {
+            set.add(expand(uri));
+        }
+        return set;
+    }
+
+    private static URI expand(URI uri) {
+        return URI.create(SPARQLDeserializers.getExpandedURI(uri.toString()));
+    }
+
+    private static class IndexEntry {
+
+        private final Set<URI> experiments;
+
+        private final long expiration;
+
+        private IndexEntry(Set<URI> experiments, long expiration) {
+            this.experiments = experiments;
+            this.expiration = expiration;
+        }
+
+        private boolean isExpired() {
+            return expiration < System.currentTimeMillis();
+        }
+    }
+}
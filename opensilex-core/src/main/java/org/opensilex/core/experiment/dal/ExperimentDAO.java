@@ -22,7 +22,6 @@ import org.apache.jena.sparql.syntax.ElementGroup;
 import org.apache.jena.sparql.syntax.ElementOptional;
 import org.opensilex.core.ontology.Oeso;
 import org.opensilex.sparql.deserializer.SPARQLDeserializers;
-import org.opensilex.sparql.exceptions.SPARQLException;
 import org.opensilex.sparql.model.SPARQLResourceModel;
 import org.opensilex.sparql.service.SPARQLQueryHelper;
 import org.opensilex.sparql.service.SPARQLService;
@@ -30,13 +29,12 @@ import org.opensilex.utils.OrderBy;
 import org.opensilex.utils.ListWithPagination;
 
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import org.apache.jena.arq.querybuilder.AskBuilder;
 import org.opensilex.security.authentication.ForbiddenURIAccessException;
 import org.opensilex.security.authentication.NotFoundURIException;
 import org.opensilex.security.authentication.SecurityOntology;
@@ -49,6 +47,13 @@ import static org.opensilex.sparql.service.SPARQLQueryHelper.makeVar;
  */
 public class ExperimentDAO {
 
+    /**
+     * Shared by all DAO instances, updated by experiments and groups
+     * modifications done through the API. Other modifications are seen after
+     * at most {@link ExperimentAccessIndex#DEFAULT_TTL} milliseconds.
+     */
+    private final static ExperimentAccessIndex ACCESS_INDEX = new ExperimentAccessIndex();
+
     protected final SPARQLService sparql;
 
     public ExperimentDAO(SPARQLService sparql) {
@@ -57,12 +62,14 @@ public class ExperimentDAO {
 
     public ExperimentModel create(ExperimentModel instance) throws Exception {
         sparql.create(instance);
+        ACCESS_INDEX.experimentChanged(sparql, instance);
         return instance;
     }
 
     public ExperimentModel update(ExperimentModel instance, UserModel user) throws Exception {
         validateExperimentAccess(instance.getUri(), user);
         sparql.update(instance);
+        ACCESS_INDEX.experimentChanged(sparql, instance);
         return instance;
     }
 
@@ -84,6 +91,7 @@ public class ExperimentDAO {
     public void delete(URI xpUri, UserModel user) throws Exception {
         validateExperimentAccess(xpUri, user);
         sparql.delete(ExperimentModel.class, xpUri);
+        ACCESS_INDEX.experimentsDeleted(Collections.singletonList(xpUri));
     }
 
     public void delete(List<URI> xpUris, UserModel user) throws Exception {
@@ -91,6 +99,7 @@ public class ExperimentDAO {
             validateExperimentAccess(xpUri, user);
         }
         sparql.delete(ExperimentModel.class, xpUris);
+        ACCESS_INDEX.experimentsDeleted(xpUris);
     }
 
     public ExperimentModel get(URI xpUri, UserModel user) throws Exception {
@@ -107,20 +116,30 @@ public class ExperimentDAO {
      *
      * @param xp the {@link ExperimentModel} to filter
      */
-    private void filterExperimentSensors(ExperimentModel xp) {
-        if (xp.getSensors().isEmpty()) {
+    private void filterExperimentSensors(ExperimentModel xp) throws Exception {
+        filterExperimentsSensors(Collections.singletonList(xp));
+    }
+
+    /**
+     * Remove all URI from {@link ExperimentModel#getSensors()} of each experiment which don't represents a {@link Oeso#SensingDevice} in the
+     * SPARQL Graph, with a single query for all experiments
+     *
+     * @param xps the {@link ExperimentModel} list to filter
+     */
+    private void filterExperimentsSensors(List<ExperimentModel> xps) throws Exception {
+        Set<URI> sensors = new HashSet<>();
+        for (ExperimentModel xp : xps) {
+            sensors.addAll(xp.getSensors());
+        }
+        if (sensors.isEmpty()) {
             return;
         }
 
         // #TODO don't fetch URI which don't represents sensors and delete this method
-        xp.getSensors().removeIf(sensor -> {
-            try {
-                return !sparql.uriExists(new URI(Oeso.SensingDevice.getURI()), sensor);
-            } catch (SPARQLException | URISyntaxException e) {
-                throw new RuntimeException(e);
-            }
-        });
-
+        Set<URI> sensingDevices = sparql.filterURIsByType(new URI(Oeso.SensingDevice.getURI()), sensors);
+        for (ExperimentModel xp : xps) {
+            xp.getSensors().removeIf(sensor -> !sensingDevices.contains(sensor));
+        }
     }
 
     @Deprecated
@@ -145,9 +164,7 @@ public class ExperimentDAO {
                 page,
                 pageSize
         );
-        for (ExperimentModel xp : xps.getList()) {
-            filterExperimentSensors(xp);
-        }
+        filterExperimentsSensors(xps.getList());
         return xps;
     }
 
@@ -188,9 +205,7 @@ public class ExperimentDAO {
                 page,
                 pageSize
         );
-        for (ExperimentModel xp : xps.getList()) {
-            filterExperimentSensors(xp);
-        }
+        filterExperimentsSensors(xps.getList());
         return xps;
 
     }
@@ -219,7 +234,8 @@ public class ExperimentDAO {
                 },
                 orderByList,
                 page,
-                pageSize
+                pageSize,
+                Collections.singletonList(ExperimentModel.SPECIES_FIELD)
         );
 
         return xps;
@@ -351,88 +367,40 @@ public class ExperimentDAO {
         }
 
         Var uriVar = makeVar(ExperimentModel.URI_FIELD);
-        Var userProfileVar = makeVar("_userProfile");
-        Var userVar = makeVar("_user");
-        Var groupVar = makeVar(ExperimentModel.GROUP_FIELD);
-
-        Node userNodeURI = SPARQLDeserializers.nodeURI(user.getUri());
-
-        ElementGroup optionals = new ElementGroup();
-        optionals.addTriplePattern(new Triple(uriVar, SecurityOntology.hasGroup.asNode(), groupVar));
-        optionals.addTriplePattern(new Triple(groupVar, SecurityOntology.hasUserProfile.asNode(), userProfileVar));
-        optionals.addTriplePattern(new Triple(userProfileVar, SecurityOntology.hasUser.asNode(), userVar));
-        select.getWhereHandler().getClause().addElement(new ElementOptional(optionals));
-        Expr inGroup = SPARQLQueryHelper.eq(userVar, userNodeURI);
-
-        Var scientificSupervisorVar = makeVar(ExperimentModel.SCIENTIFIC_SUPERVISOR_FIELD);
-        select.addOptional(new Triple(uriVar, Oeso.hasScientificSupervisor.asNode(), scientificSupervisorVar));
-        Expr hasScientificSupervisor = SPARQLQueryHelper.eq(scientificSupervisorVar, userNodeURI);
-
-        Var technicalSupervisorVar = makeVar(ExperimentModel.TECHNICAL_SUPERVISOR_FIELD);
-        select.addOptional(new Triple(uriVar, Oeso.hasTechnicalSupervisor.asNode(), technicalSupervisorVar));
-        Expr hasTechnicalSupervisor = SPARQLQueryHelper.eq(technicalSupervisorVar, userNodeURI);
-
         Var isPublicVar = makeVar(ExperimentModel.IS_PUBLIC_FIELD);
         select.addOptional(new Triple(uriVar, Oeso.isPublic.asNode(), isPublicVar));
         Expr isPublic = SPARQLQueryHelper.eq(isPublicVar, Boolean.TRUE);
 
-        select.addFilter(SPARQLQueryHelper.or(
-                inGroup,
-                hasScientificSupervisor,
-                hasTechnicalSupervisor,
-                isPublic
-        ));
+        // Public experiments are filtered by the query, only the user own experiments are listed
+        Set<URI> userExperiments = ACCESS_INDEX.getUserExperiments(sparql, user.getUri());
+        if (userExperiments.isEmpty()) {
+            select.addFilter(isPublic);
+        } else {
+            select.addFilter(SPARQLQueryHelper.or(
+                    isPublic,
+                    SPARQLQueryHelper.inURIFilter(ExperimentModel.URI_FIELD, userExperiments)
+            ));
+        }
     }
 
     public void validateExperimentAccess(URI experimentURI, UserModel user) throws Exception {
+        // Index may contain experiments from rolled back or external writes
         if (!sparql.uriExists(ExperimentModel.class, experimentURI)) {
             throw new NotFoundURIException(experimentURI);
         }
 
-        if (user.isAdmin()) {
-            return;
-        }
-
-        AskBuilder ask = sparql.getUriExistsQuery(ExperimentModel.class, experimentURI);
-
-        Var uriVar = makeVar(ExperimentModel.URI_FIELD);
-        Var userProfileVar = makeVar("_userProfile");
-        Var userVar = makeVar("_user");
-        Var groupVar = makeVar(ExperimentModel.GROUP_FIELD);
-
-        Node userNodeURI = SPARQLDeserializers.nodeURI(user.getUri());
-
-        ElementGroup optionals = new ElementGroup();
-        optionals.addTriplePattern(new Triple(uriVar, SecurityOntology.hasGroup.asNode(), groupVar));
-        optionals.addTriplePattern(new Triple(groupVar, SecurityOntology.hasUserProfile.asNode(), userProfileVar));
-        optionals.addTriplePattern(new Triple(userProfileVar, SecurityOntology.hasUser.asNode(), userVar));
-        ask.getWhereHandler().getClause().addElement(new ElementOptional(optionals));
-        Expr inGroup = SPARQLQueryHelper.eq(userVar, userNodeURI);
-
-        Var scientificSupervisorVar = makeVar(ExperimentModel.SCIENTIFIC_SUPERVISOR_FIELD);
-        ask.addOptional(new Triple(uriVar, Oeso.hasScientificSupervisor.asNode(), scientificSupervisorVar));
-        Expr hasScientificSupervisor = SPARQLQueryHelper.eq(scientificSupervisorVar, userNodeURI);
-
-        Var technicalSupervisorVar = makeVar(ExperimentModel.TECHNICAL_SUPERVISOR_FIELD);
-        ask.addOptional(new Triple(uriVar, Oeso.hasTechnicalSupervisor.asNode(), technicalSupervisorVar));
-        Expr hasTechnicalSupervisor = SPARQLQueryHelper.eq(technicalSupervisorVar, userNodeURI);
-
-        Var isPublicVar = makeVar(ExperimentModel.IS_PUBLIC_FIELD);
-        ask.addOptional(new Triple(uriVar, Oeso.isPublic.asNode(), isPublicVar));
-        Expr isPublic = SPARQLQueryHelper.eq(isPublicVar, Boolean.TRUE);
-
-        ask.addFilter(
-                SPARQLQueryHelper.or(
-                        inGroup,
-                        hasScientificSupervisor,
-                        hasTechnicalSupervisor,
-                        isPublic
-                )
-        );
-
-        if (!sparql.executeAskQuery(ask)) {
+        if (!user.isAdmin() && !ACCESS_INDEX.canRead(sparql, user.getUri(), experimentURI)) {
             throw new ForbiddenURIAccessException(experimentURI);
         }
     }
 
+    /**
+     * Return the experiments access index shared by all DAO instances.
+     *
+     * @return experiments access index
+     */
+    public static ExperimentAccessIndex getAccessIndex() {
+        return ACCESS_INDEX;
+    }
+
 }
@@ -300,6 +300,7 @@ public class GermplasmAPI {
      * @param orderByList
      * @param page
      * @param pageSize
+     * @param withoutTotal
      * @return
      * @throws Exception
      */
@@ -329,7 +330,8 @@ public class GermplasmAPI {
             @ApiParam(value = "Search by experiment") @QueryParam("experiment") URI experiment,
             @ApiParam(value = "List of fields to sort as an array of fieldName=asc|desc", example = "label=asc") @QueryParam("orderBy") List<OrderBy> orderByList,
             @ApiParam(value = "Page number", example = "0") @QueryParam("page") @DefaultValue("0") @Min(0) int page,
-            @ApiParam(value = "Page size", example = "20") @QueryParam("pageSize") @DefaultValue("20") @Min(0) int pageSize
+            @ApiParam(value = "Page size", example = "20") @QueryParam("pageSize") @DefaultValue("20") @Min(0) int pageSize,
+            @ApiParam(value = "Do not count total results, returned total only tells if a next page exists", example = "false") @QueryParam("withoutTotal") @DefaultValue("false") boolean withoutTotal
     ) throws Exception {
         // Search germplasm with germplasm DAO
         GermplasmDAO dao = new GermplasmDAO(sparql, nosql);
@@ -346,7 +348,8 @@ public class GermplasmAPI {
                 experiment,
                 orderByList,
                 page,
-                pageSize
+                pageSize,
+                withoutTotal
         );
 
         // Convert paginated list to DTO
@@ -365,6 +368,7 @@ public class GermplasmAPI {
      * @param orderByList
      * @param page
      * @param pageSize
+     * @param withoutTotal
      * @return
      * @throws Exception
      */
@@ -386,7 +390,8 @@ public class GermplasmAPI {
             @ApiParam("Germplasm search form") GermplasmSearchDTO germplasmSearchDTO,
             @ApiParam(value = "List of fields to sort as an array of fieldName=asc|desc", example = "alias=asc") @QueryParam("orderBy") List<OrderBy> orderByList,
             @ApiParam(value = "Page number", example = "0") @QueryParam("page") @DefaultValue("0") @Min(0) int page,
-            @ApiParam(value = "Page size", example = "20") @QueryParam("pageSize") @DefaultValue("20") @Min(0) int pageSize
+            @ApiParam(value = "Page size", example = "20") @QueryParam("pageSize") @DefaultValue("20") @Min(0) int pageSize,
+            @ApiParam(value = "Do not count total results, returned total only tells if a next page exists", example = "false") @QueryParam("withoutTotal") @DefaultValue("false") boolean withoutTotal
     ) throws Exception {
 
         // Search germplasm with germplasm DAO
@@ -404,7 +409,8 @@ public class GermplasmAPI {
                 germplasmSearchDTO.getExperiment(),
                 orderByList,
                 page,
-                pageSize
+                pageSize,
+                withoutTotal
         );
 
         // Convert paginated list to DTO
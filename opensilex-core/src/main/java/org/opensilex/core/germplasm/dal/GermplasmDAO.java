@@ -43,6 +43,7 @@ import org.opensilex.sparql.service.SPARQLService;
 import org.opensilex.sparql.utils.Ontology;
 import org.opensilex.utils.OrderBy;
 import org.opensilex.utils.ListWithPagination;
+import org.opensilex.utils.ThrowingConsumer;
 
 /**
  * Germplasm DAO
@@ -175,22 +176,36 @@ public class GermplasmDAO {
             URI experiment,
             List<OrderBy> orderByList, 
             Integer page, 
-            Integer pageSize) throws Exception {
+            Integer pageSize,
+            boolean withoutTotal) throws Exception {
+
+        ThrowingConsumer<SelectBuilder, Exception> filterHandler = (SelectBuilder select) -> {
+            appendUriFilter(select, uri);
+            appendRdfTypeFilter(select, rdfType);
+            appendRegexLabelAndSynonymFilter(select, label);
+            appendSpeciesFilter(select, species);
+            appendVarietyFilter(select, variety);
+            appendAccessionFilter(select, accession);
+            appendInstituteFilter(select, institute);
+            appendProductionYearFilter(select, productionYear);
+            appendExperimentFilter(select, experiment);
+        };
+
+        if (withoutTotal) {
+            return sparql.searchWithoutTotal(
+                    GermplasmModel.class,
+                    user.getLanguage(),
+                    filterHandler,
+                    orderByList,
+                    page,
+                    pageSize
+            );
+        }
 
         return sparql.searchWithPagination(
                 GermplasmModel.class,
                 user.getLanguage(),
-                (SelectBuilder select) -> {
-                    appendUriFilter(select, uri);
-                    appendRdfTypeFilter(select, rdfType);
-                    appendRegexLabelAndSynonymFilter(select, label);
-                    appendSpeciesFilter(select, species);
-                    appendVarietyFilter(select, variety);
-                    appendAccessionFilter(select, accession);
-                    appendInstituteFilter(select, institute);
-                    appendProductionYearFilter(select, productionYear);
-                    appendExperimentFilter(select, experiment);
-                },
+                filterHandler,
                 orderByList,
                 page,
                 pageSize
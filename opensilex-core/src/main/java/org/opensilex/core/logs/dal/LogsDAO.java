@@ -5,6 +5,9 @@
  */
 package org.opensilex.core.logs.dal;
 
+import java.util.Collection;
+import javax.jdo.PersistenceManager;
+import javax.jdo.Transaction;
 import org.opensilex.nosql.service.NoSQLService;
 
 /**
@@ -23,4 +26,13 @@ public class LogsDAO {
         nosql.create(instance);
     }
 
+    public void createAll(Collection<LogModel> instances) throws Exception {
+        try (PersistenceManager persistenceManager = nosql.getPersistentConnectionManager()) {
+            Transaction transaction = persistenceManager.currentTransaction();
+            transaction.begin();
+            persistenceManager.makePersistentAll(instances);
+            transaction.commit();
+        }
+    }
+
 }
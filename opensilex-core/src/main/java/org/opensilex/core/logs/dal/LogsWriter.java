@@ -0,0 +1,211 @@
+//******************************************************************************
+//                          LogsWriter.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.core.logs.dal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous access logs writer.
+ *
+ * Log records are put in a bounded queue and written in bulk by a single
+ * background thread, when batch size is reached or after flush interval. When
+ * queue is full, records are either dropped or caller is blocked depending on
+ * configuration.
+ *
+ * @author charlero
+ */
+public class LogsWriter {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(LogsWriter.class);
+
+    private final LogsDAO logsDAO;
+
+    private final BlockingQueue<LogModel> queue;
+
+    private final int batchSize;
+
+    private final long flushInterval;
+
+    private final boolean blockWhenFull;
+
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final AtomicLong writtenCount = new AtomicLong();
+
+    private volatile long lastFlushDuration = 0;
+
+    /**
+     * Create and start logs writer.
+     *
+     * @param logsDAO logs DAO used for bulk writes
+     * @param queueSize maximum number of pending log records
+     * @param batchSize maximum number of log records written at once
+     * @param flushInterval maximum delay in milliseconds before writing pending
+     * log records
+     * @param blockWhenFull if true block caller when queue is full, otherwise
+     * drop log record
+     */
+    public LogsWriter(LogsDAO logsDAO, int queueSize, int batchSize, long flushInterval, boolean blockWhenFull) {
+        this.logsDAO = logsDAO;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = Math.max(1, flushInterval);
+        this.blockWhenFull = blockWhenFull;
+
+        this.writerThread = new Thread(this::run, "opensilex-access-logs-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Add a log record to the writing queue.
+     *
+     * @param logModel log record
+     * @return true if record has been queued, false if it has been dropped
+     */
+    public boolean add(LogModel logModel) {
+        if (!running) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+
+        if (blockWhenFull) {
+            try {
+                queue.put(logModel);
+                return true;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        } else if (queue.offer(logModel)) {
+            return true;
+        }
+
+        droppedCount.incrementAndGet();
+        return false;
+    }
+
+    private void run() {
+        List<LogModel> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                LogModel first = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    long deadline = System.currentTimeMillis() + flushInterval;
+                    while (batch.size() < batchSize) {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (remaining <= 0) {
+                            break;
+                        }
+                        LogModel next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                        queue.drainTo(batch, batchSize - batch.size());
+                    }
+                    write(batch);
+                }
+            } catch (InterruptedException ex) {
+                break;
+            }
+        }
+
+        // Write records polled before shutdown and records still queued
+        write(batch);
+        drain();
+    }
+
+    private void drain() {
+        List<LogModel> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+    }
+
+    private void write(List<LogModel> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            logsDAO.createAll(batch);
+            writtenCount.addAndGet(batch.size());
+        } catch (Exception ex) {
+            droppedCount.addAndGet(batch.size());
+            LOGGER.warn("Error while writing " + batch.size() + " user access logs", ex);
+        } finally {
+            lastFlushDuration = System.currentTimeMillis() - start;
+            batch.clear();
+        }
+    }
+
+    /**
+     * Stop writer thread and write all pending log records.
+     *
+     * Pending records are written by the writer thread itself, remaining ones
+     * are only written here once the thread has stopped so both never write
+     * concurrently.
+     */
+    public void shutdown() {
+        running = false;
+        try {
+            // Writer thread stops polling queue at most after one flush interval
+            writerThread.join(2 * flushInterval);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (writerThread.isAlive()) {
+            LOGGER.warn("User access logs writer still running after shutdown timeout, " + queue.size() + " log records pending");
+            return;
+        }
+
+        // Write records added while writer thread was stopping
+        drain();
+    }
+
+    /**
+     * @return number of log records waiting to be written
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return number of dropped log records
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return number of written log records
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * @return duration in milliseconds of last bulk write
+     */
+    public long getLastFlushDuration() {
+        return lastFlushDuration;
+    }
+}
@@ -18,8 +18,10 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.ext.Provider;
 import org.opensilex.OpenSilex;
+import org.opensilex.core.CoreModule;
 import org.opensilex.core.logs.dal.LogModel;
 import org.opensilex.core.logs.dal.LogsDAO;
+import org.opensilex.core.logs.dal.LogsWriter;
 import org.opensilex.nosql.service.NoSQLService;
 import org.opensilex.security.authentication.AuthenticationService;
 import org.opensilex.security.user.dal.UserModel;
@@ -71,7 +73,6 @@ public class UserAccessLogFilter implements ContainerRequestFilter {
                 MultivaluedMap<String, String> queryPathParameters = uriInfo.getQueryParameters();
                 try {
                     // 6. save data search query
-                    LogsDAO logsDAO = new LogsDAO(nosql);
                     LogModel logModel = new LogModel();
                     if (user != null && !user.isAnonymous()) { // TODO Remove verification
                         logModel.setUserUri(user.getUri());
@@ -85,7 +86,14 @@ public class UserAccessLogFilter implements ContainerRequestFilter {
 
                     logModel.setQueryParmeters(queryParmeters);
                     logModel.setDatetime(LocalDateTime.now());
-                    logsDAO.create(logModel);
+
+                    // Write log asynchronously if possible
+                    LogsWriter logsWriter = opensilex.getModuleByClass(CoreModule.class).getLogsWriter();
+                    if (logsWriter != null) {
+                        logsWriter.add(logModel);
+                    } else {
+                        new LogsDAO(nosql).create(logModel);
+                    }
                 } catch (Exception ex) {
                     LOGGER.warn("Error while logging user access to service", ex);
                 }
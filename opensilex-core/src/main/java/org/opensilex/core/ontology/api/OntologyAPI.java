@@ -13,8 +13,11 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import java.net.URI;
 import java.util.List;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
+import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
@@ -22,19 +25,18 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import org.opensilex.server.exceptions.ForbiddenException;
 import org.opensilex.server.response.ErrorDTO;
 import org.opensilex.server.rest.validation.ValidURI;
-import org.opensilex.sparql.model.SPARQLTreeListModel;
 import org.opensilex.sparql.service.SPARQLService;
-import org.opensilex.core.ontology.dal.ClassModel;
 import org.opensilex.core.ontology.dal.OntologyDAO;
 import org.opensilex.core.ontology.dal.DatatypePropertyModel;
 import org.opensilex.core.ontology.dal.ObjectPropertyModel;
 import org.opensilex.security.authentication.ApiProtected;
 import org.opensilex.security.authentication.injection.CurrentUser;
 import org.opensilex.security.user.dal.UserModel;
+import org.opensilex.server.response.PaginatedListResponse;
 import org.opensilex.server.response.SingleObjectResponse;
-import org.opensilex.sparql.response.ResourceTreeResponse;
 
 /**
  *
@@ -69,13 +71,35 @@ public class OntologyAPI {
     ) throws Exception {
         OntologyDAO dao = new OntologyDAO(sparql);
 
-        SPARQLTreeListModel<ClassModel> tree = dao.searchSubClasses(
+        // Tree response is cached as JSON until ontologies change
+        byte[] tree = dao.searchSubClassesJson(
                 parentClass,
                 currentUser,
                 ignoreRootClasses
         );
 
-        return new ResourceTreeResponse(ResourceTreeDTO.fromResourceTree(tree)).getResponse();
+        return Response.ok(tree, MediaType.APPLICATION_JSON).build();
+    }
+
+    @DELETE
+    @Path("/cache")
+    @ApiOperation("Invalidate ontology based caches, to be called after ontologies are installed or reset by another process")
+    @ApiProtected
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Ontology caches invalidated"),
+        @ApiResponse(code = 403, message = "Current user is not an admin", response = ErrorDTO.class)
+    })
+    public Response invalidateCache() throws Exception {
+        if (!currentUser.isAdmin()) {
+            throw new ForbiddenException("You must be an admin to invalidate ontology caches");
+        }
+
+        // Every ontology based cache is rebuilt when version changes
+        SPARQLService.updateOntologyVersion();
+        OntologyDAO.invalidateTrees();
+        OntologyDAO.invalidateOwlRestrictions();
+
+        return Response.ok().build();
     }
 
     @GET
@@ -115,4 +139,26 @@ public class OntologyAPI {
         return new SingleObjectResponse(classProperties).getResponse();
     }
 
+    @GET
+    @Path("/restrictions")
+    @ApiOperation("Get OWL restrictions of an RDF class, inherited restrictions included")
+    @ApiProtected
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Return class restrictions", response = OwlRestrictionDTO.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Invalid parameters", response = ErrorDTO.class)
+    })
+    public Response getClassRestrictions(
+            @ApiParam(value = "RDF class URI", required = true) @QueryParam("rdfClass") @ValidURI @NotNull URI rdfClass
+    ) throws Exception {
+        OntologyDAO dao = new OntologyDAO(sparql);
+
+        List<OwlRestrictionDTO> restrictions = dao.getOwlRestrictions(rdfClass, currentUser).stream()
+                .map(OwlRestrictionDTO::fromRestriction)
+                .collect(Collectors.toList());
+
+        return new PaginatedListResponse<>(restrictions).getResponse();
+    }
+
 }
@@ -0,0 +1,67 @@
+//******************************************************************************
+//                          OwlRestrictionDTO.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.core.ontology.api;
+
+import java.net.URI;
+import org.opensilex.core.ontology.dal.OwlRestriction;
+
+/**
+ * OWL restriction of a class on a property.
+ *
+ * @author Vincent Migot
+ */
+public class OwlRestrictionDTO {
+
+    private URI property;
+
+    private Integer minCardinality;
+
+    private Integer maxCardinality;
+
+    private Integer cardinality;
+
+    public URI getProperty() {
+        return property;
+    }
+
+    public void setProperty(URI property) {
+        this.property = property;
+    }
+
+    public Integer getMinCardinality() {
+        return minCardinality;
+    }
+
+    public void setMinCardinality(Integer minCardinality) {
+        this.minCardinality = minCardinality;
+    }
+
+    public Integer getMaxCardinality() {
+        return maxCardinality;
+    }
+
+    public void setMaxCardinality(Integer maxCardinality) {
+        this.maxCardinality = maxCardinality;
+    }
+
+    public Integer getCardinality() {
+        return cardinality;
+    }
+
+    public void setCardinality(Integer cardinality) {
+        this.cardinality = cardinality;
+    }
+
+    public static OwlRestrictionDTO fromRestriction(OwlRestriction restriction) {
+        OwlRestrictionDTO dto = new OwlRestrictionDTO();
+        dto.setProperty(restriction.getProperty());
+        dto.setMinCardinality(restriction.getMinCardinality());
+        dto.setMaxCardinality(restriction.getMaxCardinality());
+        dto.setCardinality(restriction.getCardinality());
+        return dto;
+    }
+}
@@ -7,6 +7,7 @@ package org.opensilex.core.ontology.dal;
 
 import java.net.URI;
 import java.util.List;
+import java.util.stream.Collectors;
 import static org.apache.jena.arq.querybuilder.AbstractQueryBuilder.makeVar;
 import org.apache.jena.arq.querybuilder.SelectBuilder;
 import org.apache.jena.graph.Node;
@@ -31,10 +32,33 @@ public final class OntologyDAO {
         this.sparql = sparql;
     }
 
+    private final static OntologyTreeCache TREES = new OntologyTreeCache();
+
+    private final static String CLASS_TREE = "class";
+
     public SPARQLTreeListModel<ClassModel> searchSubClasses(URI parent, UserModel user, boolean excludeRoot) throws Exception {
+        return loadSubClasses(parent, user.getLanguage(), excludeRoot);
+    }
+
+    /**
+     * Return sub-classes tree response serialized as JSON, cached until
+     * ontologies change.
+     *
+     * @param parent
+     * @param user
+     * @param excludeRoot
+     * @return sub-classes tree response serialized as JSON
+     * @throws Exception
+     */
+    public byte[] searchSubClassesJson(URI parent, UserModel user, boolean excludeRoot) throws Exception {
+        String lang = user.getLanguage();
+        return TREES.getJson(getTreeKey(CLASS_TREE, parent, lang, excludeRoot), () -> loadSubClasses(parent, lang, excludeRoot));
+    }
+
+    private SPARQLTreeListModel<ClassModel> loadSubClasses(URI parent, String lang, boolean excludeRoot) throws Exception {
         return sparql.searchResourceTree(
                 ClassModel.class,
-                user.getLanguage(),
+                lang,
                 parent,
                 excludeRoot,
                 (SelectBuilder select) -> {
@@ -64,6 +88,17 @@ public final class OntologyDAO {
         );
     }
 
+    private static String getTreeKey(String treeKind, URI parent, String lang, boolean excludeRoot) {
+        return treeKind + "|" + SPARQLDeserializers.formatURI(parent) + "|" + lang + "|" + excludeRoot;
+    }
+
+    /**
+     * Remove all cached ontology trees.
+     */
+    public static void invalidateTrees() {
+        TREES.invalidate();
+    }
+
     public List<DatatypePropertyModel> searchDatatypeProperties(URI rdfClass, UserModel user) {
         throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
     }
@@ -72,12 +107,54 @@ public final class OntologyDAO {
         throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
     }
 
-    public List<OwlRestrictionModel> getOwlRestrictions(URI rdfClass, UserModel user) throws Exception {
-        return sparql.search(OwlRestrictionModel.class, user.getLanguage(), (SelectBuilder select) -> {
-            Var uriVar = makeVar(SPARQLResourceModel.URI_FIELD);
-            Var classUriVar = makeVar("classURI");
-            select.addWhere(classUriVar, RDFS.subClassOf, uriVar);
-            select.addWhere(SPARQLDeserializers.nodeURI(rdfClass), Ontology.subClassAny, classUriVar);
+    private static volatile OwlRestrictionTable restrictionTable;
+
+    /**
+     * Return OWL restrictions of a class, inherited restrictions included.
+     * Restrictions are taken from a table shared by all DAO instances and
+     * rebuilt when ontologies change, returned list must not be modified.
+     *
+     * @param rdfClass class URI
+     * @param user current user for properties language
+     * @return restrictions list
+     * @throws Exception
+     */
+    public List<OwlRestriction> getOwlRestrictions(URI rdfClass, UserModel user) throws Exception {
+        return getOwlRestrictions(rdfClass, user.getLanguage());
+    }
+
+    public List<OwlRestriction> getOwlRestrictions(URI rdfClass, String lang) throws Exception {
+        return getRestrictionTable().getRestrictions(rdfClass.toString(), lang, this::loadDirectOwlRestrictions);
+    }
+
+    private OwlRestrictionTable getRestrictionTable() throws Exception {
+        OwlRestrictionTable table = restrictionTable;
+        if (table == null || !table.isValid()) {
+            synchronized (OntologyDAO.class) {
+                table = restrictionTable;
+                if (table == null || !table.isValid()) {
+                    table = OwlRestrictionTable.load(sparql);
+                    restrictionTable = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    private List<OwlRestriction> loadDirectOwlRestrictions(String classURI, String lang) throws Exception {
+        Node classNode = SPARQLDeserializers.nodeURI(new URI(classURI));
+        List<OwlRestrictionModel> models = sparql.search(OwlRestrictionModel.class, lang, (SelectBuilder select) -> {
+            select.addWhere(classNode, RDFS.subClassOf, makeVar(SPARQLResourceModel.URI_FIELD));
         });
+        return models.stream()
+                .map(OwlRestriction::fromModel)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Remove OWL restrictions table, it will be rebuilt on next access.
+     */
+    public static void invalidateOwlRestrictions() {
+        restrictionTable = null;
     }
 }
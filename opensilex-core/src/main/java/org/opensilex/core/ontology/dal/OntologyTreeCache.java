@@ -0,0 +1,93 @@
+//******************************************************************************
+//                          OntologyTreeCache.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.core.ontology.dal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opensilex.server.rest.serialization.ObjectMapperContextResolver;
+import org.opensilex.sparql.model.SPARQLTreeListModel;
+import org.opensilex.sparql.model.SPARQLTreeModel;
+import org.opensilex.sparql.response.ResourceTreeDTO;
+import org.opensilex.sparql.response.ResourceTreeResponse;
+import org.opensilex.sparql.service.SPARQLService;
+
+/**
+ * Cache of ontology trees indexed by tree kind, root, language and root
+ * exclusion.
+ *
+ * Each tree is serialized once as a JSON tree response so web services can
+ * send the same bytes for every request. Only JSON is kept, loaded models are
+ * bound to the SPARQL service of the request which loaded them and can't be
+ * shared.
+ *
+ * Trees are kept until ontologies version changes or until they are older
+ * than {@link SPARQLService#ONTOLOGY_CACHE_TTL}.
+ *
+ * @author Vincent Migot
+ */
+public class OntologyTreeCache {
+
+    /**
+     * Maximum number of trees kept in cache.
+     */
+    public final static int MAX_SIZE = 500;
+
+    private final Map<String, CachedTree> trees = new ConcurrentHashMap<>();
+
+    /**
+     * Return cached tree JSON for the given key or load it if missing or
+     * outdated.
+     *
+     * @param <T> tree models type
+     * @param key tree key
+     * @param loader tree loader
+     * @return tree response serialized as JSON
+     * @throws Exception if tree loading or serialization fail
+     */
+    public <T extends SPARQLTreeModel<T>> byte[] getJson(String key, TreeLoader<T> loader) throws Exception {
+        CachedTree cachedTree = trees.get(key);
+        if (cachedTree == null || !SPARQLService.isOntologyCacheValid(cachedTree.version, cachedTree.loadTime)) {
+            long version = SPARQLService.getOntologyVersion();
+            long loadTime = System.currentTimeMillis();
+            ResourceTreeResponse response = new ResourceTreeResponse(ResourceTreeDTO.fromResourceTree(loader.load()));
+            cachedTree = new CachedTree(version, loadTime, ObjectMapperContextResolver.getObjectMapper().writeValueAsBytes(response));
+            if (trees.size() >= MAX_SIZE) {
+                trees.clear();
+            }
+            trees.put(key, cachedTree);
+        }
+        return cachedTree.json;
+    }
+
+    /**
+     * Remove all cached trees.
+     */
+    public void invalidate() {
+        trees.clear();
+    }
+
+    @FunctionalInterface
+    public interface TreeLoader<T extends SPARQLTreeModel<T>> {
+
+        public SPARQLTreeListModel<T> load() throws Exception;
+    }
+
+    private static class CachedTree {
+
+        private final long version;
+
+        private final long loadTime;
+
+        private final byte[] json;
+
+        private CachedTree(long version, long loadTime, byte[] json) {
+            this.version = version;
+            this.loadTime = loadTime;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+//******************************************************************************
+//                          OwlRestriction.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.core.ontology.dal;
+
+import java.net.URI;
+
+/**
+ * Immutable OWL restriction detached from any SPARQL service, so it can be
+ * shared between requests.
+ *
+ * @author Vincent Migot
+ */
+public class OwlRestriction {
+
+    private final URI uri;
+
+    private final URI property;
+
+    private final Integer minCardinality;
+
+    private final Integer maxCardinality;
+
+    private final Integer cardinality;
+
+    public OwlRestriction(URI uri, URI property, Integer minCardinality, Integer maxCardinality, Integer cardinality) {
+        this.uri = uri;
+        this.property = property;
+        this.minCardinality = minCardinality;
+        this.maxCardinality = maxCardinality;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Copy values of a loaded restriction model, must be called while the
+     * model SPARQL service is still open.
+     *
+     * @param model restriction model
+     * @return detached restriction
+     */
+    public static OwlRestriction fromModel(OwlRestrictionModel model) {
+        URI property = null;
+        if (model.getOnProperty() != null) {
+            property = model.getOnProperty().getUri();
+        }
+        return new OwlRestriction(
+                model.getUri(),
+                property,
+                model.getMinCardinality(),
+                model.getMaxCardinality(),
+                model.getCardinality()
+        );
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    public URI getProperty() {
+        return property;
+    }
+
+    public Integer getMinCardinality() {
+        return minCardinality;
+    }
+
+    public Integer getMaxCardinality() {
+        return maxCardinality;
+    }
+
+    public Integer getCardinality() {
+        return cardinality;
+    }
+}
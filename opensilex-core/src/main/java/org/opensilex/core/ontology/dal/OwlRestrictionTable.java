@@ -0,0 +1,200 @@
+//******************************************************************************
+//                          OwlRestrictionTable.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.core.ontology.dal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.jena.arq.querybuilder.ExprFactory;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.arq.querybuilder.WhereBuilder;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.vocabulary.RDFS;
+import org.opensilex.sparql.deserializer.SPARQLDeserializers;
+import org.opensilex.sparql.service.SPARQLResult;
+import org.opensilex.sparql.service.SPARQLService;
+
+/**
+ * Table of OWL restrictions by class, inherited restrictions included.
+ *
+ * Named classes hierarchy is loaded with a single query when the table is
+ * built. Direct restrictions of each class are loaded on first access for
+ * each language and restrictions of a class and its ancestors are merged
+ * once, so repeated lookups do not need any query.
+ *
+ * Only classes which are subject of a rdfs:subClassOf relation are memoized,
+ * other URIs can't have any restriction. Restrictions are stored detached
+ * from the SPARQL service which loaded them and returned lists are shared and
+ * must not be modified.
+ *
+ * A table is bound to an ontologies version and must be replaced when it
+ * changes or when it is older than {@link SPARQLService#ONTOLOGY_CACHE_TTL}.
+ *
+ * @author Vincent Migot
+ */
+public class OwlRestrictionTable {
+
+    private final static String CLASS_VAR = "class";
+
+    private final static String PARENT_VAR = "parent";
+
+    private final static String ANY_VAR = "any";
+
+    /**
+     * Maximum number of entries kept in each restrictions map.
+     */
+    public final static int MAX_SIZE = 10000;
+
+    private final long version;
+
+    private final long loadTime;
+
+    private final Map<String, Set<String>> parents;
+
+    private final Map<String, List<OwlRestriction>> directRestrictions = new ConcurrentHashMap<>();
+
+    private final Map<String, List<OwlRestriction>> restrictions = new ConcurrentHashMap<>();
+
+    private OwlRestrictionTable(long version, long loadTime, Map<String, Set<String>> parents) {
+        this.version = version;
+        this.loadTime = loadTime;
+        this.parents = parents;
+    }
+
+    /**
+     * Build a table with named classes hierarchy of the triplestore.
+     *
+     * @param sparql SPARQL service
+     * @return restrictions table
+     * @throws Exception if hierarchy query fail
+     */
+    public static OwlRestrictionTable load(SPARQLService sparql) throws Exception {
+        long version = SPARQLService.getOntologyVersion();
+        long loadTime = System.currentTimeMillis();
+
+        Var classVar = SelectBuilder.makeVar(CLASS_VAR);
+        Var parentVar = SelectBuilder.makeVar(PARENT_VAR);
+        ExprFactory exprFactory = new ExprFactory();
+
+        SelectBuilder select = new SelectBuilder();
+        select.setDistinct(true);
+        select.addVar(classVar);
+        select.addVar(parentVar);
+        select.addWhere(classVar, RDFS.subClassOf, SelectBuilder.makeVar(ANY_VAR));
+        select.addFilter(exprFactory.isIRI(classVar));
+        select.addOptional(new WhereBuilder()
+                .addWhere(classVar, RDFS.subClassOf, parentVar)
+                .addFilter(exprFactory.isIRI(parentVar))
+        );
+
+        Map<String, Set<String>> parents = new LinkedHashMap<>();
+        for (SPARQLResult result : sparql.executeSelectQuery(select)) {
+            Set<String> classParents = parents.computeIfAbsent(SPARQLDeserializers.getExpandedURI(result.getStringValue(CLASS_VAR)), key -> new LinkedHashSet<>());
+            String parent = result.getStringValue(PARENT_VAR);
+            if (parent != null) {
+                classParents.add(SPARQLDeserializers.getExpandedURI(parent));
+            }
+        }
+
+        return new OwlRestrictionTable(version, loadTime, parents);
+    }
+
+    /**
+     * @return true if ontologies did not change since the table was built and
+     * the table did not expire
+     */
+    public boolean isValid() {
+        return SPARQLService.isOntologyCacheValid(version, loadTime);
+    }
+
+    /**
+     * Return restrictions of the class and of all its ancestors.
+     *
+     * @param classURI class URI
+     * @param lang restrictions properties language
+     * @param loader direct restrictions loader used for classes not loaded yet
+     * @return restrictions list, empty if the class is unknown
+     * @throws Exception if direct restrictions loading fail
+     */
+    public List<OwlRestriction> getRestrictions(String classURI, String lang, RestrictionsLoader loader) throws Exception {
+        String expandedURI = SPARQLDeserializers.getExpandedURI(classURI);
+        if (!parents.containsKey(expandedURI)) {
+            return Collections.emptyList();
+        }
+
+        String key = lang + "|" + expandedURI;
+        List<OwlRestriction> classRestrictions = restrictions.get(key);
+        if (classRestrictions == null) {
+            Map<String, OwlRestriction> restrictionsByURI = new LinkedHashMap<>();
+            for (String ancestorURI : getClassAndAncestors(expandedURI)) {
+                for (OwlRestriction restriction : getDirectRestrictions(ancestorURI, lang, loader)) {
+                    restrictionsByURI.putIfAbsent(String.valueOf(restriction.getUri()), restriction);
+                }
+            }
+            classRestrictions = Collections.unmodifiableList(new ArrayList<>(restrictionsByURI.values()));
+            put(restrictions, key, classRestrictions);
+        }
+        return classRestrictions;
+    }
+
+    private List<OwlRestriction> getDirectRestrictions(String classURI, String lang, RestrictionsLoader loader) throws Exception {
+        if (!parents.containsKey(classURI)) {
+            return Collections.emptyList();
+        }
+
+        String key = lang + "|" + classURI;
+        List<OwlRestriction> classRestrictions = directRestrictions.get(key);
+        if (classRestrictions == null) {
+            classRestrictions = Collections.unmodifiableList(new ArrayList<>(loader.load(classURI, lang)));
+            put(directRestrictions, key, classRestrictions);
+        }
+        return classRestrictions;
+    }
+
+    private static void put(Map<String, List<OwlRestriction>> map, String key, List<OwlRestriction> value) {
+        if (map.size() >= MAX_SIZE) {
+            map.clear();
+        }
+        map.put(key, value);
+    }
+
+    private Set<String> getClassAndAncestors(String classURI) {
+        Set<String> classes = new LinkedHashSet<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>();
+        toVisit.add(classURI);
+        while (!toVisit.isEmpty()) {
+            String current = toVisit.poll();
+            if (visited.add(current)) {
+                classes.add(current);
+                toVisit.addAll(parents.getOrDefault(current, Collections.emptySet()));
+            }
+        }
+        return classes;
+    }
+
+    @FunctionalInterface
+    public interface RestrictionsLoader {
+
+        /**
+         * @param classURI class URI
+         * @param lang restrictions properties language
+         * @return restrictions directly defined on class, detached from the
+         * SPARQL service
+         * @throws Exception if loading fail
+         */
+        public List<OwlRestriction> load(String classURI, String lang) throws Exception;
+    }
+}
@@ -23,9 +23,25 @@ import java.util.*;
 import static junit.framework.TestCase.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import javax.mail.internet.InternetAddress;
+import org.opensilex.OpenSilex;
+import org.opensilex.core.experiment.dal.ExperimentAccessIndex;
+import org.opensilex.core.experiment.dal.ExperimentDAO;
 import org.opensilex.core.experiment.dal.ExperimentModel;
 import org.opensilex.integration.test.security.AbstractSecurityIntegrationTest;
+import org.opensilex.security.group.api.GroupCreationDTO;
+import org.opensilex.security.group.api.GroupUpdateDTO;
+import org.opensilex.security.group.api.GroupUserProfileModificationDTO;
+import org.opensilex.security.group.dal.GroupModel;
+import org.opensilex.security.group.dal.GroupUserProfileModel;
+import org.opensilex.security.profile.dal.ProfileDAO;
+import org.opensilex.security.profile.dal.ProfileModel;
+import org.opensilex.security.user.dal.UserDAO;
+import org.opensilex.security.user.dal.UserModel;
+import org.opensilex.sparql.deserializer.SPARQLDeserializers;
 import org.opensilex.sparql.model.SPARQLResourceModel;
+import org.opensilex.sparql.service.SPARQLService;
 
 /**
  * @author Vincent MIGOT
@@ -183,8 +199,73 @@ public class ExperimentAPITest extends AbstractSecurityIntegrationTest {
         assertFalse(xps.isEmpty());
     }
 
+    @Test
+    public void testRemovedGroupMemberAccess() throws Exception {
+        SPARQLService sparql = getSparqlService();
+
+        URI userURI = new URI("http://example.org/users/xp-member");
+        URI profileURI = new URI("http://example.org/profiles/xp-member");
+        new UserDAO(sparql).create(userURI, new InternetAddress("xp-member@opensilex.org"), "xp", "member", false, getAuthenticationService().getPasswordHash("azerty"), OpenSilex.DEFAULT_LANGUAGE);
+        new ProfileDAO(sparql).create(profileURI, "xp member", new ArrayList<>());
+
+        GroupCreationDTO groupDTO = new GroupCreationDTO();
+        groupDTO.setName("xp group");
+        groupDTO.setDescription("xp group");
+        GroupUserProfileModificationDTO userProfile = new GroupUserProfileModificationDTO();
+        userProfile.setUserURI(userURI);
+        userProfile.setProfileURI(profileURI);
+        groupDTO.setUserProfiles(Collections.singletonList(userProfile));
+        URI groupURI = extractUriFromResponse(getJsonPostResponse(target("/group/create"), groupDTO));
+
+        ExperimentCreationDTO xpDto = getCreationDTO();
+        xpDto.setGroups(Collections.singletonList(groupURI));
+        URI xpURI = extractUriFromResponse(getJsonPostResponse(target(createPath), xpDto));
+
+        ExperimentAccessIndex accessIndex = ExperimentDAO.getAccessIndex();
+        assertTrue(accessIndex.canRead(sparql, userURI, xpURI));
+
+        // remove user from group
+        GroupUpdateDTO groupUpdateDTO = new GroupUpdateDTO();
+        groupUpdateDTO.setUri(groupURI);
+        groupUpdateDTO.setName("xp group");
+        groupUpdateDTO.setDescription("xp group");
+        groupUpdateDTO.setUserProfiles(new ArrayList<>());
+        assertEquals(Status.OK.getStatusCode(), getJsonPutResponse(target("/group/update"), groupUpdateDTO).getStatus());
+
+        assertFalse(accessIndex.canRead(sparql, userURI, xpURI));
+    }
+
+    @Test
+    public void testAccessIndexStalenessWindow() throws Exception {
+        SPARQLService sparql = getSparqlService();
+
+        URI userURI = new URI("http://example.org/users/xp-supervisor");
+        UserModel user = new UserDAO(sparql).create(userURI, new InternetAddress("xp-supervisor@opensilex.org"), "xp", "supervisor", false, getAuthenticationService().getPasswordHash("azerty"), OpenSilex.DEFAULT_LANGUAGE);
+
+        long ttl = 500;
+        ExperimentAccessIndex accessIndex = new ExperimentAccessIndex(ttl);
+        assertTrue(accessIndex.getUserExperiments(sparql, userURI).isEmpty());
+
+        // experiment created outside of the DAO, index is not notified
+        ExperimentModel xp = getCreationDTO().newModel();
+        xp.setScientificSupervisors(Collections.singletonList(user));
+        sparql.create(xp);
+
+        // stale until entry expires
+        assertFalse(accessIndex.canRead(sparql, userURI, xp.getUri()));
+
+        Thread.sleep(ttl + 100);
+        assertTrue(accessIndex.canRead(sparql, userURI, xp.getUri()));
+        assertTrue(accessIndex.getUserExperiments(sparql, userURI).contains(URI.create(SPARQLDeserializers.getExpandedURI(xp.getUri().toString()))));
+    }
+
     @Override
     protected List<Class<? extends SPARQLResourceModel>> getModelsToClean() {
-        return Collections.singletonList(ExperimentModel.class);
+        return Arrays.asList(ExperimentModel.class, GroupModel.class, GroupUserProfileModel.class, ProfileModel.class, UserModel.class);
+    }
+
+    @Override
+    public void afterEach() throws Exception {
+        securityModule.createDefaultSuperAdmin();
     }
 }
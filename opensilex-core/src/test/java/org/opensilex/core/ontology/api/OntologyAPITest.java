@@ -0,0 +1,102 @@
+//******************************************************************************
+//                          OntologyAPITest.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.core.ontology.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.ws.rs.core.Response;
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+import org.apache.jena.arq.querybuilder.UpdateBuilder;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.Test;
+import org.opensilex.core.ontology.Oeso;
+import org.opensilex.integration.test.security.AbstractSecurityIntegrationTest;
+import org.opensilex.server.response.PaginatedListResponse;
+import org.opensilex.sparql.deserializer.SPARQLDeserializers;
+import org.opensilex.sparql.service.SPARQLService;
+
+/**
+ * @author Vincent Migot
+ */
+public class OntologyAPITest extends AbstractSecurityIntegrationTest {
+
+    protected String path = "/ontology";
+
+    protected String restrictionsPath = path + "/restrictions";
+
+    protected String cachePath = path + "/cache";
+
+    private final static URI TEST_GRAPH = URI.create("http://test.opensilex.org/ontology-test");
+
+    private final static URI CAMERA = URI.create(Oeso.NS + "Camera");
+
+    private final static URI SUB_CAMERA = URI.create("http://test.opensilex.org/ontology-test#SubCamera");
+
+    @Override
+    public void afterEach() throws Exception {
+        getSparqlService().clearGraph(TEST_GRAPH);
+        getDeleteJsonResponse(target(cachePath));
+    }
+
+    private List<OwlRestrictionDTO> getRestrictions(URI rdfClass) throws Exception {
+        Response getResult = getJsonGetResponse(target(restrictionsPath).queryParam("rdfClass", rdfClass.toString()));
+        assertEquals(Response.Status.OK.getStatusCode(), getResult.getStatus());
+
+        JsonNode node = getResult.readEntity(JsonNode.class);
+        PaginatedListResponse<OwlRestrictionDTO> listResponse = new ObjectMapper().convertValue(node,
+                new TypeReference<PaginatedListResponse<OwlRestrictionDTO>>() {
+        });
+        return listResponse.getResult();
+    }
+
+    private static Set<URI> getProperties(List<OwlRestrictionDTO> restrictions) {
+        return restrictions.stream()
+                .map(OwlRestrictionDTO::getProperty)
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testInheritedRestrictions() throws Exception {
+        SPARQLService sparql = getSparqlService();
+        sparql.executeUpdateQuery(new UpdateBuilder().addInsert(
+                SPARQLDeserializers.nodeURI(TEST_GRAPH),
+                SPARQLDeserializers.nodeURI(SUB_CAMERA),
+                RDFS.subClassOf,
+                SPARQLDeserializers.nodeURI(CAMERA)
+        ));
+
+        // New class is only visible once ontology caches are invalidated
+        final Response deleteResult = getDeleteJsonResponse(target(cachePath));
+        assertEquals(Response.Status.OK.getStatusCode(), deleteResult.getStatus());
+
+        List<OwlRestrictionDTO> cameraRestrictions = getRestrictions(CAMERA);
+        List<OwlRestrictionDTO> subCameraRestrictions = getRestrictions(SUB_CAMERA);
+
+        Set<URI> expectedProperties = new HashSet<>(Arrays.asList(
+                URI.create(Oeso.NS + "height"),
+                URI.create(Oeso.NS + "pixelSize"),
+                URI.create(Oeso.NS + "width")
+        ));
+        assertEquals(expectedProperties, getProperties(cameraRestrictions));
+        assertEquals(cameraRestrictions.size(), subCameraRestrictions.size());
+        assertEquals(expectedProperties, getProperties(subCameraRestrictions));
+    }
+
+    @Test
+    public void testUnknownClassRestrictions() throws Exception {
+        List<OwlRestrictionDTO> restrictions = getRestrictions(URI.create("http://test.opensilex.org/ontology-test#Unknown"));
+        assertTrue(restrictions.isEmpty());
+    }
+}
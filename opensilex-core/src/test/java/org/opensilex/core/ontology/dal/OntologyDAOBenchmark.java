@@ -0,0 +1,115 @@
+//******************************************************************************
+//                          OntologyDAOBenchmark.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.core.ontology.dal;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opensilex.OpenSilex;
+import org.opensilex.security.user.dal.UserModel;
+import org.opensilex.sparql.rdf4j.RDF4JInMemoryServiceFactory;
+import org.opensilex.sparql.service.SPARQLService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of sub-classes tree JSON response build time on installed
+ * ontologies, with trees loaded from the triplestore for each call and with
+ * cached trees.
+ *
+ * Benchmarks sources are only generated with the "benchmark" profile, run it
+ * with:
+ * <pre>
+ * mvn -Pbenchmark -pl opensilex-core test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.opensilex.core.ontology.dal.OntologyDAOBenchmark
+ * </pre>
+ *
+ * @author Vincent Migot
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OntologyDAOBenchmark {
+
+    @Param({
+        "http://www.opensilex.org/vocabulary/oeso#ScientificObject",
+        "http://www.opensilex.org/vocabulary/oeso#Device"
+    })
+    public String rootClass;
+
+    private OpenSilex opensilex;
+
+    private RDF4JInMemoryServiceFactory factory;
+
+    private SPARQLService sparql;
+
+    private OntologyDAO dao;
+
+    private UserModel user;
+
+    private URI root;
+
+    @Setup
+    public void setup() throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put(OpenSilex.PROFILE_ID_ARG_KEY, OpenSilex.TEST_PROFILE_ID);
+        args.put(OpenSilex.NO_CACHE_ARG_KEY, "true");
+        opensilex = OpenSilex.createInstance(args);
+
+        factory = new RDF4JInMemoryServiceFactory();
+        factory.setOpenSilex(opensilex);
+        factory.setup();
+        factory.startup();
+        sparql = factory.provide();
+
+        dao = new OntologyDAO(sparql);
+        user = new UserModel();
+        user.setLanguage(OpenSilex.DEFAULT_LANGUAGE);
+        root = new URI(rootClass);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        factory.dispose(sparql);
+        opensilex.shutdown();
+    }
+
+    @Benchmark
+    public byte[] subClassesFromTriplestore() throws Exception {
+        OntologyDAO.invalidateTrees();
+        return dao.searchSubClassesJson(root, user, false);
+    }
+
+    @Benchmark
+    public byte[] subClassesFromCache() throws Exception {
+        return dao.searchSubClassesJson(root, user, false);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(OntologyDAOBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -10,12 +10,15 @@ import org.opensilex.front.config.FrontRoutingConfig;
 import org.opensilex.front.config.Route;
 import org.opensilex.front.config.MenuItem;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.catalina.Context;
 import org.apache.catalina.valves.rewrite.RewriteValve;
 import org.opensilex.config.ConfigManager;
 import org.opensilex.front.api.FrontConfigDTO;
 import org.opensilex.front.api.MenuItemDTO;
 import org.opensilex.front.api.RouteDTO;
+import org.opensilex.front.theme.CompiledTheme;
 import org.opensilex.OpenSilexModule;
 import org.opensilex.server.extensions.APIExtension;
 import org.opensilex.server.extensions.ServerExtension;
@@ -118,4 +121,24 @@ public class FrontModule extends OpenSilexModule implements ServerExtension, API
 
         return this.config;
     }
+
+    private final Map<String, CompiledTheme> compiledThemes = new ConcurrentHashMap<>();
+
+    /**
+     * Return compiled theme from cache, always null in dev mode to rebuild
+     * theme on each request.
+     *
+     * @param themeKey theme cache key
+     * @return compiled theme or null if not in cache
+     */
+    public CompiledTheme getCompiledTheme(String themeKey) {
+        if (getOpenSilex().isDev()) {
+            return null;
+        }
+        return compiledThemes.get(themeKey);
+    }
+
+    public void setCompiledTheme(String themeKey, CompiledTheme compiledTheme) {
+        compiledThemes.put(themeKey, compiledTheme);
+    }
 }
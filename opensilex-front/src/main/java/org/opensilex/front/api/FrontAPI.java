@@ -11,14 +11,17 @@ import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
 import java.util.List;
 import javax.inject.Inject;
 import javax.validation.constraints.Pattern;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
@@ -26,15 +29,18 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
+import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
 import org.opensilex.OpenSilex;
 import org.opensilex.front.FrontModule;
 import org.opensilex.OpenSilexModule;
 import org.opensilex.config.ConfigManager;
+import org.opensilex.front.theme.CompiledTheme;
 import org.opensilex.front.theme.ThemeBuilder;
 import org.opensilex.front.theme.ThemeConfig;
 import org.slf4j.Logger;
@@ -203,23 +209,74 @@ public class FrontAPI {
     @Produces(MediaType.APPLICATION_OCTET_STREAM)
     public Response getThemeCss(
             @PathParam("moduleId") @ApiParam(value = "Module identifier", example = "opensilex-front") @Pattern(regexp = "([a-zA-Z0-9-]+$)") String moduleId,
-            @PathParam("themeId") @ApiParam(value = "Theme identifier", example = "phis") @Pattern(regexp = "([a-zA-Z0-9-]+$)") String themeId
+            @PathParam("themeId") @ApiParam(value = "Theme identifier", example = "phis") @Pattern(regexp = "([a-zA-Z0-9-]+$)") String themeId,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+            @Context Request request
     ) throws Exception {
 
         OpenSilexModule module = getModule(moduleId);
 
-        ThemeConfig config = getThemeConfigOrNull(module, themeId);
+        String themeFilePath = getModuleFrontThemePath(themeId);
 
-        if (config != null) {
+        if (module.fileExists(themeFilePath)) {
+            byte[] themeConfigContent;
+            try (InputStream themeConfigStream = module.getFileInputStream(themeFilePath)) {
+                themeConfigContent = IOUtils.toByteArray(themeConfigStream);
+            }
+            String themeKey = moduleId + "#" + themeId + "#" + Hashing.sha256().hashBytes(themeConfigContent).toString();
+
+            // Compile theme only if not already done for this configuration
+            CompiledTheme compiledTheme = frontModule.getCompiledTheme(themeKey);
+            if (compiledTheme == null) {
+                ConfigManager cfg = new ConfigManager();
+                cfg.addSource(new ByteArrayInputStream(themeConfigContent));
+                ThemeConfig config = cfg.loadConfig("", ThemeConfig.class);
+
+                ThemeBuilder themeBuilder = getThemeBuilder(module, themeId, config);
+                compiledTheme = new CompiledTheme(themeBuilder.buildCss());
+                frontModule.setCompiledTheme(themeKey, compiledTheme);
+            }
 
-            ThemeBuilder themeBuilder = getThemeBuilder(module, themeId, config);
-            String css = themeBuilder.buildCss();
+            boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
 
-            // Load file
-            return Response
-                    .ok(css, "text/css")
-                    .header("Content-Disposition", "attachment; filename=\"" + "style.css" + "\"")
-                    .build();
+            // Each encoding must have its own strong entity tag
+            EntityTag etag;
+            if (gzip) {
+                etag = new EntityTag(compiledTheme.getHash() + "-gzip");
+            } else {
+                etag = new EntityTag(compiledTheme.getHash());
+            }
+
+            ResponseBuilder builder = request.evaluatePreconditions(etag);
+
+            CacheControl cc = new CacheControl();
+            cc.setPrivate(true);
+            cc.setNoTransform(true);
+            cc.setMaxAge(0);
+            cc.setMustRevalidate(true);
+
+            if (builder == null) {
+                if (gzip) {
+                    builder = Response.ok(compiledTheme.getGzipCss(), "text/css")
+                            .header(HttpHeaders.CONTENT_ENCODING, "gzip");
+                } else {
+                    builder = Response.ok(compiledTheme.getCss(), "text/css");
+                }
+
+                return builder
+                        .cacheControl(cc)
+                        .tag(etag)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .header("Content-Disposition", "attachment; filename=\"" + "style.css" + "\"")
+                        .build();
+            } else {
+                return builder
+                        .status(HttpStatus.SC_NOT_MODIFIED)
+                        .cacheControl(cc)
+                        .tag(etag)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
         }
 
         return Response
@@ -0,0 +1,52 @@
+//******************************************************************************
+//                          CompiledTheme.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.front.theme;
+
+import com.google.common.hash.Hashing;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compiled theme stylesheet, with its gzip compressed version and its hash
+ * used as HTTP entity tag.
+ *
+ * @author vincent
+ */
+public class CompiledTheme {
+
+    private final byte[] css;
+
+    private final byte[] gzipCss;
+
+    private final String hash;
+
+    public CompiledTheme(String css) throws IOException {
+        this.css = css.getBytes(StandardCharsets.UTF_8);
+        this.hash = Hashing.sha256().hashBytes(this.css).toString();
+
+        ByteArrayOutputStream gzipOutput = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipOutput)) {
+            gzip.write(this.css);
+        }
+        this.gzipCss = gzipOutput.toByteArray();
+    }
+
+    public byte[] getCss() {
+        return css;
+    }
+
+    public byte[] getGzipCss() {
+        return gzipCss;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+}
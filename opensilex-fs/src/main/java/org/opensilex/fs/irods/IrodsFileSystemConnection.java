@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -94,6 +95,145 @@ public class IrodsFileSystemConnection extends BaseService implements FileStorag
         return fileContent;
     }
 
+    /**
+     * Option used with IGET to write file content to standard output
+     */
+    private final static String IRODS_GET_STDOUT = "-";
+
+    @Override
+    public InputStream readFileAsStream(Path filePath) throws IOException {
+        Process irodsProcess = new ProcessBuilder()
+                .command(IRODS_GET_CMD, filePath.toString(), IRODS_GET_STDOUT)
+                .start();
+
+        // Errors are read in background so process never blocks on a full error pipe
+        ErrorStreamReader errorReader = new ErrorStreamReader(irodsProcess);
+        errorReader.start();
+
+        // Process output is read while it is produced, errors are checked on close
+        return new FilterInputStream(irodsProcess.getInputStream()) {
+
+            private boolean endOfStream = false;
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b == -1) {
+                    endOfStream = true;
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int count = super.read(b, off, len);
+                if (count == -1) {
+                    endOfStream = true;
+                }
+                return count;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                    // When stream is closed before its end (e.g. for a range
+                    // request), process fails to write remaining content, this
+                    // is expected and not reported as an error
+                    if (endOfStream) {
+                        errorReader.checkError();
+                    }
+                } finally {
+                    if (irodsProcess.isAlive()) {
+                        irodsProcess.destroy();
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Thread reading a process error stream until its end.
+     */
+    private static class ErrorStreamReader extends Thread {
+
+        private final Process process;
+
+        private volatile byte[] errorBytes;
+
+        private volatile IOException readException;
+
+        private ErrorStreamReader(Process process) {
+            super("opensilex-irods-error-reader");
+            setDaemon(true);
+            this.process = process;
+        }
+
+        @Override
+        public void run() {
+            try (InputStream errorStream = process.getErrorStream()) {
+                errorBytes = IOUtils.toByteArray(errorStream);
+            } catch (IOException ex) {
+                readException = ex;
+            }
+        }
+
+        /**
+         * Wait for error stream end and throw its content if any.
+         *
+         * @throws IOException if process wrote errors
+         */
+        private void checkError() throws IOException {
+            try {
+                join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading IRODS errors", ex);
+            }
+
+            if (readException != null) {
+                throw readException;
+            }
+            if (errorBytes != null && errorBytes.length > 0) {
+                throw new IOException(new String(errorBytes, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Option used with ILS to get file size
+     */
+    private final static String IRODS_LS_LONG_FORMAT = "-l";
+
+    @Override
+    public long getFileSize(Path filePath) throws IOException {
+        Process irodsProcess = null;
+        try {
+            irodsProcess = new ProcessBuilder()
+                    .command(IRODS_LS_CMD, IRODS_LS_LONG_FORMAT, filePath.toString())
+                    .start();
+            String output = IOUtils.toString(irodsProcess.getInputStream(), StandardCharsets.UTF_8);
+            checkErrorFromProcess(irodsProcess);
+
+            // ils -l line format: owner replica resource size date status name
+            for (String line : output.split("\\R")) {
+                String[] columns = line.trim().split("\\s+");
+                if (columns.length >= 4) {
+                    try {
+                        return Long.parseLong(columns[3]);
+                    } catch (NumberFormatException ex) {
+                        // Not a file description line
+                    }
+                }
+            }
+            throw new IOException("Unable to read IRODS file size: " + filePath);
+        } finally {
+            if (irodsProcess != null && irodsProcess.isAlive()) {
+                irodsProcess.destroy();
+            }
+        }
+    }
+
     private Path createLocalTempFile(Path filePath) throws IOException {
         Path tmpFile = null;
 
@@ -8,9 +8,16 @@ package org.opensilex.fs.local;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.io.FileUtils;
 import org.opensilex.fs.service.FileStorageConnection;
 import org.opensilex.service.BaseService;
@@ -56,6 +63,46 @@ public class LocalFileSystemConnection extends BaseService implements FileStorag
         return Files.readAllBytes(getAbsolutePath(filePath));
     }
 
+    @Override
+    public InputStream readFileAsStream(Path filePath) throws IOException {
+        return Files.newInputStream(getAbsolutePath(filePath));
+    }
+
+    @Override
+    public InputStream readFileAsStream(Path filePath, long offset, long length) throws IOException {
+        FileChannel channel = FileChannel.open(getAbsolutePath(filePath), StandardOpenOption.READ);
+        try {
+            channel.position(offset);
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+        return new BoundedInputStream(Channels.newInputStream(channel), length);
+    }
+
+    @Override
+    public long copyFileRange(Path filePath, long offset, long length, OutputStream output) throws IOException {
+        try (FileChannel channel = FileChannel.open(getAbsolutePath(filePath), StandardOpenOption.READ)) {
+            long end = Math.min(offset + length, channel.size());
+            WritableByteChannel target = Channels.newChannel(output);
+            long position = offset;
+            // transferTo may copy less bytes than requested
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            return position - offset;
+        }
+    }
+
+    @Override
+    public long getFileSize(Path filePath) throws IOException {
+        return Files.size(getAbsolutePath(filePath));
+    }
+
     @Override
     public void writeFile(Path filePath, String content) throws IOException {
         FileUtils.writeStringToFile(getAbsolutePathFile(filePath), content, StandardCharsets.UTF_8);
@@ -7,9 +7,14 @@ package org.opensilex.fs.service;
 
 import org.opensilex.service.Service;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 
 /**
  *
@@ -21,6 +26,65 @@ public interface FileStorageConnection extends Service {
 
     String readFile(Path filePath) throws IOException;
 
+    /**
+     * Open a stream on file content, caller is responsible for closing it.
+     * Default implementation loads the whole file in memory, connections
+     * should override it to read file progressively.
+     *
+     * @param filePath file path
+     * @return file content stream
+     * @throws IOException
+     */
+    default InputStream readFileAsStream(Path filePath) throws IOException {
+        return new ByteArrayInputStream(readFileAsByteArray(filePath));
+    }
+
+    /**
+     * Open a stream on a range of file content, caller is responsible for
+     * closing it.
+     *
+     * @param filePath file path
+     * @param offset index of first byte to read
+     * @param length maximum number of bytes to read
+     * @return file content range stream
+     * @throws IOException
+     */
+    default InputStream readFileAsStream(Path filePath, long offset, long length) throws IOException {
+        InputStream stream = readFileAsStream(filePath);
+        try {
+            IOUtils.skipFully(stream, offset);
+        } catch (IOException ex) {
+            stream.close();
+            throw ex;
+        }
+        return new BoundedInputStream(stream, length);
+    }
+
+    /**
+     * Copy a range of file content to the given output stream.
+     *
+     * @param filePath file path
+     * @param offset index of first byte to copy
+     * @param length number of bytes to copy
+     * @param output output stream
+     * @return number of bytes copied
+     * @throws IOException
+     */
+    default long copyFileRange(Path filePath, long offset, long length, OutputStream output) throws IOException {
+        try (InputStream stream = readFileAsStream(filePath, offset, length)) {
+            return IOUtils.copyLarge(stream, output);
+        }
+    }
+
+    /**
+     * @param filePath file path
+     * @return file size in bytes
+     * @throws IOException
+     */
+    default long getFileSize(Path filePath) throws IOException {
+        return readFileAsByteArray(filePath).length;
+    }
+
     void writeFile(Path filePath, String content) throws IOException;
 
     void writeFile(Path filePath, File file) throws IOException;
@@ -21,6 +21,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
@@ -177,6 +179,30 @@ public class FileStorageService extends BaseService implements Service, FileStor
         return getConnection(filePath).readFileAsByteArray(filePath);
     }
 
+    @Override
+    public InputStream readFileAsStream(Path filePath) throws IOException {
+        LOGGER.debug("READ FILE STREAM: " + filePath.toString());
+        return getConnection(filePath).readFileAsStream(filePath);
+    }
+
+    @Override
+    public InputStream readFileAsStream(Path filePath, long offset, long length) throws IOException {
+        LOGGER.debug("READ FILE STREAM RANGE: " + filePath.toString() + " " + offset + "-" + (offset + length - 1));
+        return getConnection(filePath).readFileAsStream(filePath, offset, length);
+    }
+
+    @Override
+    public long copyFileRange(Path filePath, long offset, long length, OutputStream output) throws IOException {
+        LOGGER.debug("COPY FILE RANGE: " + filePath.toString() + " " + offset + "-" + (offset + length - 1));
+        return getConnection(filePath).copyFileRange(filePath, offset, length, output);
+    }
+
+    @Override
+    public long getFileSize(Path filePath) throws IOException {
+        LOGGER.debug("GET FILE SIZE: " + filePath.toString());
+        return getConnection(filePath).getFileSize(filePath);
+    }
+
     @Override
     public boolean exist(Path filePath) throws IOException {
         LOGGER.debug("TEST FILE EXISTENCE: " + filePath.toString());
@@ -209,6 +235,14 @@ public class FileStorageService extends BaseService implements Service, FileStor
         return readFileAsByteArray(getFilePathFromPrefixURI(prefix, fileURI));
     }
 
+    public InputStream readFileAsStream(String prefix, URI fileURI) throws IOException {
+        return readFileAsStream(getFilePathFromPrefixURI(prefix, fileURI));
+    }
+
+    public long getFileSize(String prefix, URI fileURI) throws IOException {
+        return getFileSize(getFilePathFromPrefixURI(prefix, fileURI));
+    }
+
     public boolean exist(String prefix, URI fileURI) throws IOException {
         return exist(getFilePathFromPrefixURI(prefix, fileURI));
     }
@@ -34,6 +34,7 @@ import org.opensilex.dependencies.DependencyManager;
 import org.opensilex.server.ServerModule;
 import org.opensilex.service.Service;
 import org.opensilex.service.ServiceManager;
+import org.opensilex.utils.AnnotationIndex;
 import org.opensilex.utils.ClassUtils;
 import org.opensilex.utils.LogFilter;
 import org.reflections.Reflections;
@@ -288,9 +289,13 @@ public final class OpenSilex {
         try {
             org.glassfish.jersey.server.validation.internal.InjectingConstraintValidatorFactory z;
             org.hibernate.validator.internal.metadata.provider.AnnotationMetaDataProvider p;
+            long start = System.currentTimeMillis();
             OpenSilex instance = buildInstance(setup);
+            logPhaseDuration("modules loading", start);
 
+            start = System.currentTimeMillis();
             instance.initialize();
+            logPhaseDuration("configuration", start);
 
             if (autoStart) {
                 instance.startup();
@@ -517,25 +522,45 @@ public final class OpenSilex {
             module.setOpenSilex(this);
         }
 
+        long startupStart = System.currentTimeMillis();
+        long start = startupStart;
         setup();
+        logPhaseDuration("modules setup", start);
 
         LOGGER.debug("Setup Services");
+        start = System.currentTimeMillis();
         for (Service service : serviceManager.getServices().values()) {
             service.setOpenSilex(this);
             service.setup();
         }
+        logPhaseDuration("services setup", start);
 
         LOGGER.debug("Start services");
+        start = System.currentTimeMillis();
         for (Service service : serviceManager.getServices().values()) {
             service.startup();
         }
+        logPhaseDuration("services startup", start);
 
+        start = System.currentTimeMillis();
         for (OpenSilexModule module : getModules()) {
             module.startup();
         }
+        logPhaseDuration("modules startup", start);
+        logPhaseDuration("instance startup", startupStart);
         LOGGER.debug("Instance started");
     }
 
+    /**
+     * Log duration of a startup phase.
+     *
+     * @param phase phase name
+     * @param start phase start time in milliseconds
+     */
+    private static void logPhaseDuration(String phase, long start) {
+        LOGGER.info("Startup phase '" + phase + "' done in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
     /**
      * Shutdown application.
      *
@@ -810,7 +835,13 @@ public final class OpenSilex {
      * @return Map of found annotated classes indexed by name
      */
     public Map<String, Class<?>> getAnnotatedClassesMap(Class<? extends Annotation> annotation) {
-        return getAnnotatedClassesMap(annotation, getReflections());
+        Map<String, Class<?>> classMap = new HashMap<>();
+
+        getAnnotatedClasses(annotation).forEach((Class<?> c) -> {
+            classMap.put(c.getCanonicalName(), c);
+        });
+
+        return classMap;
     }
 
     /**
@@ -837,6 +868,10 @@ public final class OpenSilex {
      * @return List of classes
      */
     public Set<Class<?>> getAnnotatedClasses(Class<? extends Annotation> annotation) {
+        AnnotationIndex index = getAnnotationIndex();
+        if (index != null) {
+            return index.getTypesAnnotatedWith(annotation);
+        }
         return getReflections().getTypesAnnotatedWith(annotation);
     }
 
@@ -847,6 +882,10 @@ public final class OpenSilex {
      * @return List of methods
      */
     public Set<Method> getMethodsAnnotatedWith(Class<? extends Annotation> annotation) {
+        AnnotationIndex index = getAnnotationIndex();
+        if (index != null) {
+            return index.getMethodsAnnotatedWith(annotation);
+        }
         return getReflections().getMethodsAnnotatedWith(annotation);
     }
 
@@ -924,22 +963,101 @@ public final class OpenSilex {
      */
     private Reflections reflections;
 
+    /**
+     * Annotation index loaded from modules JAR files.
+     */
+    private AnnotationIndex annotationIndex;
+
+    /**
+     * Flag to determine if annotation index loading has already been tried.
+     */
+    private boolean annotationIndexLoaded = false;
+
+    /**
+     * Modules JAR URLs added to class loader, null if not already done.
+     */
+    private Set<URL> modulesURLsToScan;
+
     /**
      * Return reflection instance, building it if needed.
      *
      * @return Reflections instance
      */
-    public Reflections getReflections() {
+    public synchronized Reflections getReflections() {
         if (reflections == null) {
             this.buildReflections();
         }
         return reflections;
     }
 
+    /**
+     * Return annotation index generated at build time, loading it if needed.
+     *
+     * @return annotation index or null if some modules classes can't be indexed
+     */
+    private synchronized AnnotationIndex getAnnotationIndex() {
+        if (!annotationIndexLoaded) {
+            annotationIndexLoaded = true;
+            long start = System.currentTimeMillis();
+
+            Set<URL> urlsToScan = registerModulesClassLoader();
+
+            Set<File> modulesFiles = new HashSet<>();
+            getModules().forEach(m -> {
+                modulesFiles.add(ClassUtils.getJarFile(m.getClass()));
+            });
+
+            try {
+                annotationIndex = AnnotationIndex.load(modulesFiles, OpenSilex.getClassLoader());
+            } catch (IOException ex) {
+                LOGGER.warn("Invalid annotation index", ex);
+                annotationIndex = null;
+            }
+
+            if (annotationIndex != null) {
+                LOGGER.debug("Annotation index loaded for " + modulesFiles.size() + " module files, skip scanning of " + urlsToScan.size() + " JAR files");
+                logPhaseDuration("annotation index loading", start);
+            } else {
+                LOGGER.info("Annotation index not available, fallback to classpath scanning");
+            }
+        }
+
+        return annotationIndex;
+    }
+
     /**
      * Build reflection instance by adding all modules JAR to class loader and initialize Reflections library with them.
      */
     private void buildReflections() {
+        long start = System.currentTimeMillis();
+        Set<URL> urlsToScan = registerModulesClassLoader();
+
+        ConfigurationBuilder builder;
+        if (!urlsToScan.isEmpty()) {
+            builder = ConfigurationBuilder.build("", OpenSilex.getClassLoader())
+                    .setUrls(urlsToScan)
+                    .setScanners(new TypeAnnotationsScanner(), new SubTypesScanner(), new MethodAnnotationsScanner())
+                    .setExpandSuperTypes(false);
+        } else {
+            builder = ConfigurationBuilder.build("", OpenSilex.getClassLoader())
+                    .setScanners(new TypeAnnotationsScanner(), new SubTypesScanner(), new MethodAnnotationsScanner())
+                    .setExpandSuperTypes(false);
+        }
+
+        reflections = new Reflections(builder);
+        logPhaseDuration("classpath scanning", start);
+    }
+
+    /**
+     * Add all modules JAR and their dependencies to class loader if not already done.
+     *
+     * @return Set of modules JAR URLs to scan
+     */
+    private synchronized Set<URL> registerModulesClassLoader() {
+        if (modulesURLsToScan != null) {
+            return modulesURLsToScan;
+        }
+
         LOGGER.debug("Initialize JAR URLs to scan by reflection");
         Set<URL> urlsToScan = this.moduleManager.getModulesURLs();
 
@@ -974,34 +1092,22 @@ public final class OpenSilex {
 
         urlsToScan.addAll(jarModulesURLs);
 
-        ConfigurationBuilder builder;
-        if (!urlsToScan.isEmpty()) {
-
-            // Load dependencies through URL Class Loader based on actual class loader
-            if (urlsToScan.size() > 0) {
-                URLClassLoader classLoader = new URLClassLoader(
-                        urlsToScan.toArray(new URL[urlsToScan.size()]),
-                        Thread.currentThread().getContextClassLoader()
-                );
-                LOGGER.debug("Module registred, jar URLs added to classpath");
-
-                // Set the newly created class loader as the main one
-                Thread.currentThread().setContextClassLoader(classLoader);
-            } else {
-                LOGGER.debug("No external module found !");
-            }
+        // Load dependencies through URL Class Loader based on actual class loader
+        if (urlsToScan.size() > 0) {
+            URLClassLoader classLoader = new URLClassLoader(
+                    urlsToScan.toArray(new URL[urlsToScan.size()]),
+                    Thread.currentThread().getContextClassLoader()
+            );
+            LOGGER.debug("Module registred, jar URLs added to classpath");
 
-            builder = ConfigurationBuilder.build("", OpenSilex.getClassLoader())
-                    .setUrls(urlsToScan)
-                    .setScanners(new TypeAnnotationsScanner(), new SubTypesScanner(), new MethodAnnotationsScanner())
-                    .setExpandSuperTypes(false);
+            // Set the newly created class loader as the main one
+            Thread.currentThread().setContextClassLoader(classLoader);
         } else {
-            builder = ConfigurationBuilder.build("", OpenSilex.getClassLoader())
-                    .setScanners(new TypeAnnotationsScanner(), new SubTypesScanner(), new MethodAnnotationsScanner())
-                    .setExpandSuperTypes(false);
+            LOGGER.debug("No external module found !");
         }
 
-        reflections = new Reflections(builder);
+        modulesURLsToScan = urlsToScan;
+        return modulesURLsToScan;
     }
 
 }
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.opensilex.OpenSilex;
 import org.opensilex.service.Service;
 import org.opensilex.service.ServiceConfig;
@@ -31,6 +32,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Proxy class to transform configuration interfaces into real objects, reading directly from loaded configuration.
  *
+ * Values are read and converted on first call of each method and then cached, except services and lists or maps of services which are created
+ * on each call. Returned lists and maps are copies so callers can't modify cached values. Configuration reload is done by creating new proxies
+ * from a new root node, see {@link ConfigManager}.
+ *
  * @author Vincent Migot
  */
 public class ConfigProxyHandler implements InvocationHandler {
@@ -55,6 +60,16 @@ public class ConfigProxyHandler implements InvocationHandler {
      */
     private final ObjectMapper yamlMapper;
 
+    /**
+     * Cached values by interface method.
+     */
+    private final Map<Method, Object> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Marker for cached null values.
+     */
+    private final static Object NULL_VALUE = new Object();
+
     /**
      * Constructor.
      *
@@ -74,9 +89,49 @@ public class ConfigProxyHandler implements InvocationHandler {
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws InvalidConfigException {
-        String key = baseKey + method.getName();
+        Object value = cache.get(method);
+        if (value == null) {
+            String key = baseKey + method.getName();
+            value = nodeToObject(method.getGenericReturnType(), key, rootNode, method);
 
-        return nodeToObject(method.getGenericReturnType(), key, rootNode, method);
+            if (!containsService(method.getGenericReturnType())) {
+                cache.put(method, value == null ? NULL_VALUE : value);
+            }
+        } else if (value == NULL_VALUE) {
+            return null;
+        }
+
+        return copyValue(value);
+    }
+
+    /**
+     * Check if given type is a service or a list or map of services, such values can't be cached because each call must return new instances.
+     *
+     * @param type method return type
+     * @return true if type contains services
+     */
+    private static boolean containsService(Type type) {
+        if (type instanceof ParameterizedType) {
+            for (Type typeArgument : ((ParameterizedType) type).getActualTypeArguments()) {
+                if (containsService(typeArgument)) {
+                    return true;
+                }
+            }
+            return containsService(((ParameterizedType) type).getRawType());
+        } else if (type instanceof Class) {
+            Class<?> typeClass = (Class<?>) type;
+            return Service.class.isAssignableFrom(typeClass) || ServiceFactory.class.isAssignableFrom(typeClass);
+        }
+        return false;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof List) {
+            return new ArrayList<>((List<?>) value);
+        } else if (value instanceof Map) {
+            return new HashMap<>((Map<?, ?>) value);
+        }
+        return value;
     }
 
     /**
@@ -0,0 +1,379 @@
+//******************************************************************************
+//                          AnnotationIndex.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.utils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of annotated classes and methods generated at build time by
+ * {@link AnnotationIndexGenerator} in each module JAR.
+ *
+ * Index file lines have the following formats:
+ * <ul>
+ * <li>T annotation class: class annotated with annotation</li>
+ * <li>M annotation class method(parameters): method annotated with
+ * annotation</li>
+ * <li>S class superType: class extending or implementing superType</li>
+ * </ul>
+ *
+ * Lookups return the same results as Reflections with type annotations,
+ * sub types and method annotations scanners.
+ *
+ * @author Vincent Migot
+ */
+public class AnnotationIndex {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(AnnotationIndex.class);
+
+    /**
+     * Index file path in module JAR.
+     */
+    public final static String INDEX_FILE = "META-INF/opensilex/annotations.index";
+
+    public final static String TYPE_ENTRY = "T";
+
+    public final static String METHOD_ENTRY = "M";
+
+    public final static String SUB_TYPE_ENTRY = "S";
+
+    final static String CLASS_EXTENSION = ".class";
+
+    private final ClassLoader classLoader;
+
+    private final Map<String, Set<String>> annotatedTypes = new HashMap<>();
+
+    private final Map<String, Set<String>> annotatedMethods = new HashMap<>();
+
+    private final Map<String, Set<String>> subTypes = new HashMap<>();
+
+    private AnnotationIndex(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Load index files available in class loader and scan classes of the
+     * given modules locations without an up to date index file.
+     *
+     * @param modulesLocations modules JAR files or classes directories
+     * @param classLoader class loader used to find index files and load
+     * indexed classes
+     * @return annotation index or null if a module location without up to
+     * date index can't be scanned
+     * @throws IOException if an index file can't be read
+     */
+    public static AnnotationIndex load(Collection<File> modulesLocations, ClassLoader classLoader) throws IOException {
+        Set<File> staleLocations = new HashSet<>();
+        for (File location : modulesLocations) {
+            if (!hasUpToDateIndex(location)) {
+                staleLocations.add(location.getCanonicalFile());
+            }
+        }
+
+        AnnotationIndex index = new AnnotationIndex(classLoader);
+        Set<URL> indexURLs = new HashSet<>(Collections.list(classLoader.getResources(INDEX_FILE)));
+        for (URL indexURL : indexURLs) {
+            File indexLocation = getIndexLocation(indexURL);
+            if (indexLocation != null && staleLocations.contains(indexLocation)) {
+                LOGGER.debug("Ignore stale annotation index: " + indexURL);
+                continue;
+            }
+
+            LOGGER.debug("Read annotation index: " + indexURL);
+            try (InputStream indexStream = indexURL.openStream()) {
+                index.read(indexStream);
+            }
+        }
+
+        if (!index.scanLocations(staleLocations)) {
+            return null;
+        }
+
+        return index;
+    }
+
+    /**
+     * Build an index by scanning classes of the given locations, without
+     * reading their index files.
+     *
+     * @param locations JAR files or classes directories
+     * @param classLoader class loader used to load classes
+     * @return annotation index or null if a location can't be scanned
+     * @throws IOException if a location can't be read
+     */
+    public static AnnotationIndex scan(Collection<File> locations, ClassLoader classLoader) throws IOException {
+        AnnotationIndex index = new AnnotationIndex(classLoader);
+        if (!index.scanLocations(locations)) {
+            return null;
+        }
+        return index;
+    }
+
+    private boolean scanLocations(Collection<File> locations) throws IOException {
+        for (File location : locations) {
+            LOGGER.info("Scan classes without up to date annotation index: " + location.getAbsolutePath());
+            try {
+                for (String line : AnnotationIndexGenerator.generate(getClassNames(location), classLoader)) {
+                    readLine(line);
+                }
+            } catch (IOException ex) {
+                throw ex;
+            } catch (Exception | LinkageError ex) {
+                LOGGER.warn("Could not scan classes of: " + location.getAbsolutePath(), ex);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return names of classes contained in a JAR file or classes directory.
+     */
+    private static List<String> getClassNames(File location) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        if (location.isFile()) {
+            try (ZipFile zipFile = new ZipFile(location)) {
+                Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                while (entries.hasMoreElements()) {
+                    String entryName = entries.nextElement().getName();
+                    if (AnnotationIndexGenerator.isIndexedClassFile(entryName)) {
+                        classNames.add(toClassName(entryName, "/"));
+                    }
+                }
+            }
+        } else {
+            Path root = location.toPath();
+            try (Stream<Path> files = Files.walk(root)) {
+                files.filter(file -> AnnotationIndexGenerator.isIndexedClassFile(file.getFileName().toString()))
+                        .forEach(file -> classNames.add(toClassName(root.relativize(file).toString(), file.getFileSystem().getSeparator())));
+            }
+        }
+        return classNames;
+    }
+
+    private static String toClassName(String relativePath, String separator) {
+        return relativePath
+                .substring(0, relativePath.length() - CLASS_EXTENSION.length())
+                .replace(separator, ".");
+    }
+
+    /**
+     * Return JAR file or classes directory containing the given index file.
+     *
+     * @param indexURL index file URL
+     * @return index location or null if URL is neither a file nor a JAR entry
+     */
+    private static File getIndexLocation(URL indexURL) throws IOException {
+        try {
+            if ("file".equals(indexURL.getProtocol())) {
+                // Remove META-INF/opensilex/annotations.index from path
+                Path location = Paths.get(indexURL.toURI());
+                for (int i = 0; i < INDEX_FILE.split("/").length; i++) {
+                    location = location.getParent();
+                }
+                return location.toFile().getCanonicalFile();
+            } else if ("jar".equals(indexURL.getProtocol())) {
+                String path = indexURL.getPath();
+                int separatorIndex = path.indexOf("!/");
+                if (separatorIndex > 0) {
+                    return Paths.get(new URL(path.substring(0, separatorIndex)).toURI()).toFile().getCanonicalFile();
+                }
+            }
+        } catch (URISyntaxException ex) {
+            LOGGER.debug("Invalid annotation index URL: " + indexURL, ex);
+        }
+        return null;
+    }
+
+    /**
+     * Check that location contains an index file and no class modified after
+     * it, which happens when classes are compiled without Maven
+     * process-classes phase, e.g. by an IDE.
+     */
+    private static boolean hasUpToDateIndex(File location) throws IOException {
+        long indexTime;
+        long classesTime = 0;
+        if (location.isFile()) {
+            try (ZipFile zipFile = new ZipFile(location)) {
+                ZipEntry indexEntry = zipFile.getEntry(INDEX_FILE);
+                if (indexEntry == null) {
+                    LOGGER.debug("No annotation index in: " + location.getAbsolutePath());
+                    return false;
+                }
+                indexTime = indexEntry.getTime();
+
+                Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    if (entry.getName().endsWith(CLASS_EXTENSION)) {
+                        classesTime = Math.max(classesTime, entry.getTime());
+                    }
+                }
+            }
+        } else {
+            Path indexFile = location.toPath().resolve(INDEX_FILE);
+            if (!Files.isRegularFile(indexFile)) {
+                LOGGER.debug("No annotation index in: " + location.getAbsolutePath());
+                return false;
+            }
+            indexTime = Files.getLastModifiedTime(indexFile).toMillis();
+
+            try (Stream<Path> files = Files.walk(location.toPath())) {
+                classesTime = files
+                        .filter(file -> file.getFileName().toString().endsWith(CLASS_EXTENSION))
+                        .mapToLong(file -> file.toFile().lastModified())
+                        .max()
+                        .orElse(0);
+            }
+        }
+
+        if (classesTime > indexTime) {
+            LOGGER.warn("Annotation index older than classes, module classes will be scanned: " + location.getAbsolutePath());
+            return false;
+        }
+        return true;
+    }
+
+    private void read(InputStream indexStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(indexStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            readLine(line);
+        }
+    }
+
+    private void readLine(String line) {
+        String[] entry = line.split(" ");
+        if (entry.length < 3) {
+            return;
+        }
+
+        switch (entry[0]) {
+            case TYPE_ENTRY:
+                add(annotatedTypes, entry[1], entry[2]);
+                break;
+            case METHOD_ENTRY:
+                if (entry.length == 4) {
+                    add(annotatedMethods, entry[1], entry[2] + " " + entry[3]);
+                }
+                break;
+            case SUB_TYPE_ENTRY:
+                add(subTypes, entry[2], entry[1]);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static void add(Map<String, Set<String>> map, String key, String value) {
+        map.computeIfAbsent(key, k -> new HashSet<>()).add(value);
+    }
+
+    /**
+     * Return classes annotated with the given annotation, their sub types and
+     * classes annotated with an annotation itself annotated with it.
+     *
+     * @param annotation annotation to look at
+     * @return set of classes
+     */
+    public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+        Set<String> classNames = new HashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>(annotatedTypes.getOrDefault(annotation.getName(), new HashSet<>()));
+        while (!toVisit.isEmpty()) {
+            String className = toVisit.pop();
+            if (classNames.add(className)) {
+                toVisit.addAll(subTypes.getOrDefault(className, new HashSet<>()));
+                toVisit.addAll(annotatedTypes.getOrDefault(className, new HashSet<>()));
+            }
+        }
+
+        Set<Class<?>> classes = new HashSet<>();
+        for (String className : classNames) {
+            Class<?> c = loadClass(className);
+            if (c != null) {
+                classes.add(c);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Return methods annotated with the given annotation.
+     *
+     * @param annotation annotation to look at
+     * @return set of methods
+     */
+    public Set<Method> getMethodsAnnotatedWith(Class<? extends Annotation> annotation) {
+        Set<Method> methods = new HashSet<>();
+        for (String methodEntry : annotatedMethods.getOrDefault(annotation.getName(), new HashSet<>())) {
+            String[] classAndMethod = methodEntry.split(" ");
+            Class<?> c = loadClass(classAndMethod[0]);
+            if (c != null) {
+                for (Method method : c.getDeclaredMethods()) {
+                    if (getMethodSignature(method).equals(classAndMethod[1])) {
+                        methods.add(method);
+                    }
+                }
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Return method signature as written in index file.
+     *
+     * @param method method
+     * @return method name with parameters types names
+     */
+    public static String getMethodSignature(Method method) {
+        StringBuilder signature = new StringBuilder(method.getName()).append("(");
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                signature.append(",");
+            }
+            signature.append(parameterTypes[i].getName());
+        }
+        return signature.append(")").toString();
+    }
+
+    private Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (Throwable ex) {
+            LOGGER.debug("Could not load indexed class: " + className, ex);
+            return null;
+        }
+    }
+}
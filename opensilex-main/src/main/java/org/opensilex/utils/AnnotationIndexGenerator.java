@@ -0,0 +1,132 @@
+//******************************************************************************
+//                          AnnotationIndexGenerator.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.utils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Build time generator of {@link AnnotationIndex} file for a module classes
+ * directory.
+ *
+ * Called by Maven during process-classes phase with the module classes
+ * directory as first argument and the module compile classpath. If any class
+ * can't be loaded, no index is written and the generator fails so the build
+ * does not ship a missing or stale index.
+ *
+ * @author Vincent Migot
+ */
+public class AnnotationIndexGenerator {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(AnnotationIndexGenerator.class);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: AnnotationIndexGenerator <classes directory>");
+        }
+
+        Path classesDirectory = Paths.get(args[0]);
+        if (!Files.isDirectory(classesDirectory)) {
+            LOGGER.info("No classes directory, skip annotation index generation: " + classesDirectory);
+            return;
+        }
+
+        Path indexFile = classesDirectory.resolve(AnnotationIndex.INDEX_FILE);
+        Files.deleteIfExists(indexFile);
+
+        List<String> lines;
+        try {
+            lines = generate(classesDirectory, Thread.currentThread().getContextClassLoader());
+        } catch (Exception | LinkageError ex) {
+            LOGGER.error("Annotation index not generated for: " + classesDirectory, ex);
+            throw ex;
+        }
+
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, lines, StandardCharsets.UTF_8);
+        LOGGER.info("Annotation index generated with " + lines.size() + " entries: " + indexFile);
+    }
+
+    private static List<String> generate(Path classesDirectory, ClassLoader classLoader) throws Exception {
+        List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(classesDirectory)) {
+            classFiles = files.filter(file -> isIndexedClassFile(file.getFileName().toString()))
+                    .collect(Collectors.toList());
+        }
+
+        List<String> classNames = new ArrayList<>(classFiles.size());
+        for (Path classFile : classFiles) {
+            String relativePath = classesDirectory.relativize(classFile).toString();
+            classNames.add(relativePath
+                    .substring(0, relativePath.length() - AnnotationIndex.CLASS_EXTENSION.length())
+                    .replace(classFile.getFileSystem().getSeparator(), "."));
+        }
+
+        return generate(classNames, classLoader);
+    }
+
+    /**
+     * Check if a class file must be indexed.
+     *
+     * @param fileName class file name or JAR entry path
+     * @return false for non class files, module and package descriptors
+     */
+    static boolean isIndexedClassFile(String fileName) {
+        String name = fileName.substring(fileName.lastIndexOf('/') + 1);
+        return name.endsWith(AnnotationIndex.CLASS_EXTENSION)
+                && !name.equals("module-info.class")
+                && !name.equals("package-info.class");
+    }
+
+    /**
+     * Generate index lines of the given classes.
+     *
+     * @param classNames names of classes to index
+     * @param classLoader class loader used to load classes
+     * @return sorted index lines
+     * @throws Exception if a class can't be loaded
+     */
+    static List<String> generate(Collection<String> classNames, ClassLoader classLoader) throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (String className : classNames) {
+            Class<?> c = Class.forName(className, false, classLoader);
+
+            for (Annotation annotation : c.getDeclaredAnnotations()) {
+                lines.add(AnnotationIndex.TYPE_ENTRY + " " + annotation.annotationType().getName() + " " + className);
+            }
+
+            if (c.getSuperclass() != null && !c.getSuperclass().equals(Object.class)) {
+                lines.add(AnnotationIndex.SUB_TYPE_ENTRY + " " + className + " " + c.getSuperclass().getName());
+            }
+            for (Class<?> i : c.getInterfaces()) {
+                lines.add(AnnotationIndex.SUB_TYPE_ENTRY + " " + className + " " + i.getName());
+            }
+
+            for (Method method : c.getDeclaredMethods()) {
+                for (Annotation annotation : method.getDeclaredAnnotations()) {
+                    lines.add(AnnotationIndex.METHOD_ENTRY + " " + annotation.annotationType().getName() + " " + className + " " + AnnotationIndex.getMethodSignature(method));
+                }
+            }
+        }
+
+        // Sort lines for reproducible builds
+        Collections.sort(lines);
+        return lines;
+    }
+}
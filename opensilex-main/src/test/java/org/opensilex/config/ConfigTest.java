@@ -17,11 +17,15 @@ import java.util.Map.Entry;
 import org.apache.commons.lang3.StringUtils;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import org.junit.Test;
 import org.opensilex.OpenSilex;
+import org.opensilex.service.BaseService;
 import org.opensilex.unit.test.AbstractUnitTest;
 
 /**
@@ -234,6 +238,19 @@ public class ConfigTest extends AbstractUnitTest {
         )
         Class<?> clazz_default();
 
+        TestService service();
+
+        List<TestService> listService();
+
+        Map<String, TestService> mapService();
+
+    }
+
+    public static class TestService extends BaseService {
+
+        public TestService() {
+            super(null);
+        }
     }
 
     private enum Primitives {
@@ -642,4 +659,72 @@ public class ConfigTest extends AbstractUnitTest {
 
         assertTrue("Default class value must be Object", classDefault.equals(Object.class));
     }
+
+    @Test
+    public void testCachedValues() throws Exception {
+        ConfigManager provider = new ConfigManager();
+        provider.addLines(
+                "test:",
+                "  string_: first",
+                "  listStr:",
+                "    - az",
+                "  mapStr:",
+                "    az: er"
+        );
+
+        TestConfig cfg = provider.loadConfig("test", TestConfig.class);
+
+        assertEquals("first", cfg.string_());
+        assertSame("Nested interface must be cached", cfg.inception(), cfg.inception());
+
+        List<String> listStr = cfg.listStr();
+        assertNotSame("Cached list must be copied", listStr, cfg.listStr());
+        listStr.add("er");
+        assertArrayEquals("Cached list must not be modified by callers", new String[]{"az"}, cfg.listStr().toArray());
+
+        Map<String, String> mapStr = cfg.mapStr();
+        assertNotSame("Cached map must be copied", mapStr, cfg.mapStr());
+        mapStr.put("ty", "ui");
+        assertEquals("Cached map must not be modified by callers", 1, cfg.mapStr().size());
+
+        provider.addLines("test:", "  string_: second");
+        assertEquals("Loaded proxy must keep its values", "first", cfg.string_());
+        assertEquals("Reloaded proxy must read new values", "second", provider.loadConfig("test", TestConfig.class).string_());
+    }
+
+    @Test
+    public void testCachedNullValues() throws Exception {
+        ConfigManager provider = new ConfigManager();
+        TestConfig cfg = provider.loadConfig("test", TestConfig.class);
+
+        assertNull("Class with no default must be null", cfg.clazz());
+        assertNull("Cached null class must still be null", cfg.clazz());
+
+        provider.addLines("test:", "  clazz: java.lang.String");
+        assertNull("Loaded proxy must keep its null value", cfg.clazz());
+        assertEquals(String.class, provider.loadConfig("test", TestConfig.class).clazz());
+    }
+
+    @Test
+    public void testServicesNotCached() throws Exception {
+        ConfigManager provider = new ConfigManager();
+        provider.addLines(
+                "test:",
+                "  listService:",
+                "    - {}",
+                "  mapService:",
+                "    az: {}"
+        );
+
+        TestConfig cfg = provider.loadConfig("test", TestConfig.class);
+
+        assertNotNull(cfg.service());
+        assertNotSame("Services must be created on each call", cfg.service(), cfg.service());
+
+        assertEquals(1, cfg.listService().size());
+        assertNotSame("Services list must be created on each call", cfg.listService().get(0), cfg.listService().get(0));
+
+        assertEquals(1, cfg.mapService().size());
+        assertNotSame("Services map must be created on each call", cfg.mapService().get("az"), cfg.mapService().get("az"));
+    }
 }
@@ -36,6 +36,8 @@ import org.opensilex.service.ServiceDefaultDefinition;
 @ServiceDefaultDefinition(implementation = DataNucleusService.class)
 public interface NoSQLService extends Service {
 
+    public final static String DEFAULT_NOSQL_SERVICE = "nosql";
+
     public Object create(Object instance) throws NamingException;
 
     public void delete(Class cls, Object key) throws NamingException;
@@ -96,6 +96,24 @@ public interface PhisWsConfig {
         defaultString = "8004"
     )
     String shinyProxyPort();
+
+    @ConfigDescription(
+            value = "Maximum total size in bytes of pictures thumbnails kept on local disk under storage base path",
+            defaultLong = 536870912
+    )
+    long thumbnailCacheSize();
+
+    @ConfigDescription(
+            value = "Maximum number of pictures resized at the same time",
+            defaultInt = 2
+    )
+    int thumbnailMaxConcurrentResize();
+
+    @ConfigDescription(
+            value = "Maximum number of pictures waiting to be resized",
+            defaultInt = 100
+    )
+    int thumbnailMaxPendingResize();
     
 
 }
@@ -14,17 +14,21 @@ import org.apache.jena.riot.Lang;
 import org.opensilex.OpenSilex;
 import org.opensilex.sparql.rdf4j.RDF4JConfig;
 import org.opensilex.OpenSilexModule;
+import org.opensilex.fs.service.FileStorageService;
 import org.opensilex.nosql.datanucleus.mongo.MongoDBConfig;
+import org.opensilex.server.Server;
 import org.opensilex.server.extensions.APIExtension;
+import org.opensilex.server.extensions.ServerExtension;
 import org.opensilex.sparql.SPARQLConfig;
 import org.opensilex.sparql.SPARQLModule;
 import org.opensilex.sparql.extensions.OntologyFileDefinition;
 import org.opensilex.sparql.extensions.SPARQLExtension;
+import opensilex.service.utils.ThumbnailStore;
 
 /**
  * Phis opensilex module implementation
  */
-public class PhisWsModule extends OpenSilexModule implements APIExtension, SPARQLExtension {
+public class PhisWsModule extends OpenSilexModule implements APIExtension, ServerExtension, SPARQLExtension {
 
     @Override
     public Class<?> getConfigClass() {
@@ -50,6 +54,42 @@ public class PhisWsModule extends OpenSilexModule implements APIExtension, SPARQ
         );
     }
 
+    private ThumbnailStore thumbnailStore;
+
+    /**
+     * Thumbnails are only served by the web server, command line processes
+     * don't need to scan stored thumbnails nor to start resize workers.
+     *
+     * @param server Unstarted server instance
+     * @throws Exception if thumbnails directory can't be read
+     */
+    @Override
+    public void initServer(Server server) throws Exception {
+        PhisWsConfig config = getConfig(PhisWsConfig.class);
+        FileStorageService fs = getOpenSilex().getServiceInstance(FileStorageService.DEFAULT_FS_SERVICE, FileStorageService.class);
+        thumbnailStore = new ThumbnailStore(
+                fs,
+                config.thumbnailCacheSize(),
+                config.thumbnailMaxConcurrentResize(),
+                config.thumbnailMaxPendingResize()
+        );
+    }
+
+    @Override
+    public void shutDownServer(Server server) throws Exception {
+        if (thumbnailStore != null) {
+            thumbnailStore.shutdown();
+            thumbnailStore = null;
+        }
+    }
+
+    /**
+     * @return thumbnail store, null if not running in a server
+     */
+    public ThumbnailStore getThumbnailStore() {
+        return thumbnailStore;
+    }
+
     @Override
     public List<String> getPackagesToScan() {
         List<String> list = APIExtension.super.getPackagesToScan();
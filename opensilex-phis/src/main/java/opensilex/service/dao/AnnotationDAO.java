@@ -11,12 +11,20 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 import opensilex.service.dao.exception.DAOPersistenceException;
 
 import org.apache.jena.arq.querybuilder.ExprFactory;
+import org.apache.jena.arq.querybuilder.Order;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
 import org.apache.jena.arq.querybuilder.UpdateBuilder;
 import org.apache.jena.arq.querybuilder.WhereBuilder;
 import org.apache.jena.datatypes.xsd.XSDDatatype;
@@ -27,6 +35,7 @@ import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.sparql.core.TriplePath;
+import org.apache.jena.sparql.core.Var;
 import org.apache.jena.sparql.path.Path;
 import org.apache.jena.sparql.path.PathFactory;
 import org.apache.jena.vocabulary.DCTerms;
@@ -60,6 +69,7 @@ import opensilex.service.utils.date.Dates;
 import opensilex.service.model.Annotation;
 import org.opensilex.security.user.dal.UserDAO;
 import org.opensilex.security.user.dal.UserModel;
+import org.opensilex.sparql.deserializer.SPARQLDeserializers;
 import org.opensilex.sparql.service.SPARQLService;
 
 /**
@@ -82,6 +92,7 @@ public class AnnotationDAO extends Rdf4jDAO<Annotation> {
     public static final String TARGET = "target";
     public static final String TARGETS = "targets";
     public static final String MOTIVATED_BY = "motivatedBy";
+    public static final String SEARCH_TARGET = "searchTarget";
 
     public AnnotationDAO(SPARQLService sparql) {
         super(sparql);
@@ -413,20 +424,148 @@ public class AnnotationDAO extends Rdf4jDAO<Annotation> {
             handleTriplestoreException(ex);
         }
         
-        UserDAO userDAO = new UserDAO(sparql);
+        setCreatorsNames(annotations);
+        return annotations;
+    }
+
+    /**
+     * Searches the annotations of several targets with a single query, 
+     * sorted by ascending creation date.
+     * @example
+     * SELECT DISTINCT ?searchTarget ?uri ?created ?creator ?motivatedBy ?target ?bodyValue
+     * WHERE {
+     *   VALUES ?searchTarget { <http://opensilex.org/id/event/96e72788-6bdc-4f8e-abd1-ce9329371e8e> <http://opensilex.org/id/event/...> }
+     *   ?uri <http://www.w3.org/ns/oa#hasTarget> ?searchTarget .
+     *   ?uri <http://purl.org/dc/terms/created> ?created .
+     *   ?uri <http://purl.org/dc/terms/creator> ?creator .
+     *   ?uri <http://www.w3.org/ns/oa#motivatedBy> ?motivatedBy .
+     *   ?uri <http://www.w3.org/ns/oa#hasTarget> ?target .
+     *   OPTIONAL { ?uri <http://www.w3.org/ns/oa#bodyValue> ?bodyValue . }
+     * }
+     * ORDER BY ASC(?created)
+     * @param targets
+     * @return the annotations of each target, by target URI
+     * @throws opensilex.service.dao.exception.DAOPersistenceException
+     */
+    public Map<String, List<Annotation>> findByTargets(Collection<String> targets) throws DAOPersistenceException {
+        Map<String, List<Annotation>> annotationsByTarget = new LinkedHashMap<>();
+        if (targets.isEmpty()) {
+            return annotationsByTarget;
+        }
+
+        Var searchTargetVar = SelectBuilder.makeVar(SEARCH_TARGET);
+        Var uriVar = SelectBuilder.makeVar(URI);
+        Var createdVar = SelectBuilder.makeVar(CREATED);
+        Var creatorVar = SelectBuilder.makeVar(CREATOR);
+        Var motivatedByVar = SelectBuilder.makeVar(MOTIVATED_BY);
+        Var targetVar = SelectBuilder.makeVar(TARGET);
+        Var bodyValueVar = SelectBuilder.makeVar(BODY_VALUE);
+        Node hasTarget = NodeFactory.createURI(Oa.RELATION_HAS_TARGET.toString());
+
+        SelectBuilder query = new SelectBuilder();
+        query.setDistinct(true);
+        query.addVar(searchTargetVar);
+        query.addVar(uriVar);
+        query.addVar(createdVar);
+        query.addVar(creatorVar);
+        query.addVar(motivatedByVar);
+        query.addVar(targetVar);
+        query.addVar(bodyValueVar);
+        query.addWhereValueVar(searchTargetVar, targets.stream().map(NodeFactory::createURI).toArray());
+        query.addWhere(uriVar, hasTarget, searchTargetVar);
+        query.addWhere(uriVar, DCTerms.created, createdVar);
+        query.addWhere(uriVar, DCTerms.creator, creatorVar);
+        query.addWhere(uriVar, NodeFactory.createURI(Oa.RELATION_MOTIVATED_BY.toString()), motivatedByVar);
+        query.addWhere(uriVar, hasTarget, targetVar);
+        query.addOptional(uriVar, NodeFactory.createURI(Oa.RELATION_BODY_VALUE.toString()), bodyValueVar);
+        query.addOrderBy(createdVar, Order.ASCENDING);
+        LOGGER.debug(SPARQL_QUERY + query.buildString());
+
+        // annotations by URI, shared between targets
+        Map<String, Annotation> annotationsByUri = new LinkedHashMap<>();
+        try (TupleQueryResult result = prepareRDF4JTupleQuery(query.build()).evaluate()) {
+            while (result.hasNext()) {
+                BindingSet bindingSet = result.next();
+                String annotationUri = bindingSet.getValue(URI).stringValue();
+                Annotation annotation = annotationsByUri.computeIfAbsent(annotationUri, uri -> new Annotation(
+                        uri,
+                        Dates.stringToDateTimeWithGivenPattern(
+                                bindingSet.getValue(CREATED).stringValue(), 
+                                DateFormats.YMDTHMSZ_FORMAT),
+                        bindingSet.getValue(CREATOR).stringValue(),
+                        new ArrayList<>(),
+                        bindingSet.getValue(MOTIVATED_BY).stringValue(),
+                        new ArrayList<>()));
+
+                String target = bindingSet.getValue(TARGET).stringValue();
+                if (!annotation.getTargets().contains(target)) {
+                    annotation.addTarget(target);
+                }
+                if (bindingSet.hasBinding(BODY_VALUE)) {
+                    String bodyValue = bindingSet.getValue(BODY_VALUE).stringValue();
+                    if (!annotation.getBodyValues().contains(bodyValue)) {
+                        annotation.addBodyValue(bodyValue);
+                    }
+                }
+
+                List<Annotation> targetAnnotations = annotationsByTarget.computeIfAbsent(
+                        bindingSet.getValue(SEARCH_TARGET).stringValue(), 
+                        key -> new ArrayList<>());
+                if (!targetAnnotations.contains(annotation)) {
+                    targetAnnotations.add(annotation);
+                }
+            }
+        } catch (RepositoryException|MalformedQueryException|QueryEvaluationException ex) {
+            handleTriplestoreException(ex);
+        }
+
+        setCreatorsNames(annotationsByUri.values());
+        return annotationsByTarget;
+    }
+
+    /**
+     * Replaces annotations creators URIs by the users names.
+     * Creators are loaded with a single query.
+     * @param annotations 
+     */
+    private void setCreatorsNames(Collection<Annotation> annotations) {
+        Set<URI> creatorsUris = new HashSet<>();
         for (Annotation annotation : annotations) {
             String creatorValue = annotation.getCreator();
             if (creatorValue != null && !creatorValue.isEmpty()) {
                 try {
-                    UserModel user =userDAO.get(new URI(creatorValue));
-                    annotation.setCreator(user.getName());
-                } catch (Exception ex) {
-                    // ignore exception
+                    creatorsUris.add(new URI(SPARQLDeserializers.getExpandedURI(creatorValue)));
+                } catch (URISyntaxException ex) {
+                    LOGGER.warn("User not found: " + creatorValue);
+                }
+            }
+        }
+        if (creatorsUris.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> namesByUri = new HashMap<>();
+        try {
+            for (UserModel user : new UserDAO(sparql).getList(new ArrayList<>(creatorsUris))) {
+                namesByUri.put(SPARQLDeserializers.getExpandedURI(user.getUri().toString()), user.getName());
+            }
+        } catch (Exception ex) {
+            // ignore exception
+            LOGGER.warn("Annotations creators not found: " + creatorsUris, ex);
+            return;
+        }
+
+        for (Annotation annotation : annotations) {
+            String creatorValue = annotation.getCreator();
+            if (creatorValue != null && !creatorValue.isEmpty()) {
+                String name = namesByUri.get(SPARQLDeserializers.getExpandedURI(creatorValue));
+                if (name != null) {
+                    annotation.setCreator(name);
+                } else {
                     LOGGER.warn("User not found: " + creatorValue);
                 }
             }
         }
-        return annotations;
     }
 
     /**
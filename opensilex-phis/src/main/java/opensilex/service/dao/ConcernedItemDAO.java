@@ -9,16 +9,22 @@ package opensilex.service.dao;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import opensilex.service.dao.exception.UnknownUriException;
 import opensilex.service.dao.exception.DAODataErrorAggregateException;
 import opensilex.service.dao.exception.DAODataErrorException;
 import opensilex.service.dao.exception.DAOPersistenceException;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
 import org.apache.jena.arq.querybuilder.UpdateBuilder;
+import org.apache.jena.arq.querybuilder.WhereBuilder;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.sparql.core.Var;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.TupleQuery;
 import org.eclipse.rdf4j.query.TupleQueryResult;
@@ -63,6 +69,7 @@ public class ConcernedItemDAO extends Rdf4jDAO<ConcernedItem> {
     private static final String CONCERNED_ITEM_LABEL_SELECT_NAME_SPARQL = "?" + CONCERNED_ITEM_LABEL_SELECT_NAME;
     private static final String CONCERNED_ITEM_LABELS_SELECT_NAME = "concernedItemLabels";
     private static final String CONCERNED_ITEM_LABELS_SELECT_NAME_SPARQL = "?" + CONCERNED_ITEM_LABELS_SELECT_NAME;
+    private static final String OBJECT_URI_SELECT_NAME = "objectUri";
 
     public ConcernedItemDAO(SPARQLService sparql, User user, String graph, String concernsRelationUri) {
         super(sparql);
@@ -221,6 +228,87 @@ public class ConcernedItemDAO extends Rdf4jDAO<ConcernedItem> {
         return concernedItems;
     }
     
+    /**
+     * Searches the concerned items of several objects with a single query.
+     * Labels are grouped in memory instead of using a GROUP_CONCAT.
+     * @example
+     * SELECT DISTINCT ?objectUri ?concernedItemUri ?concernedItemType ?concernedItemLabel
+     * WHERE {
+     *   VALUES ?objectUri { <http://opensilex.org/id/event/96e72788-6bdc-4f8e-abd1-ce9329371e8e> <http://opensilex.org/id/event/...> }
+     *   ?objectUri  <http://www.opensilex.org/vocabulary/oeev#concerns>  ?concernedItemUri  . 
+     *   OPTIONAL {
+     *     ?concernedItemUri  <http://www.w3.org/1999/02/22-rdf-syntax-ns#type>  ?concernedItemType  . 
+     *     ?concernedItemUri  <http://www.w3.org/2000/01/rdf-schema#label>  ?concernedItemLabel  . 
+     *   }
+     * }
+     * @param objectUris
+     * @return the concerned items of each object, by object URI
+     * @throws opensilex.service.dao.exception.DAOPersistenceException
+     */
+    public Map<String, List<ConcernedItem>> findByObjects(Collection<String> objectUris) 
+            throws DAOPersistenceException {
+        Map<String, List<ConcernedItem>> concernedItemsByObject = new LinkedHashMap<>();
+        if (objectUris.isEmpty()) {
+            return concernedItemsByObject;
+        }
+        
+        Var objectUriVar = SelectBuilder.makeVar(OBJECT_URI_SELECT_NAME);
+        Var uriVar = SelectBuilder.makeVar(CONCERNED_ITEM_URI_SELECT_NAME);
+        Var typeVar = SelectBuilder.makeVar(CONCERNED_ITEM_TYPE_SELECT_NAME);
+        Var labelVar = SelectBuilder.makeVar(CONCERNED_ITEM_LABEL_SELECT_NAME);
+        
+        SelectBuilder query = new SelectBuilder();
+        query.setDistinct(true);
+        query.addVar(objectUriVar);
+        query.addVar(uriVar);
+        query.addVar(typeVar);
+        query.addVar(labelVar);
+        query.addWhereValueVar(objectUriVar, objectUris.stream().map(NodeFactory::createURI).toArray());
+        query.addWhere(objectUriVar, NodeFactory.createURI(concernsRelationUri), uriVar);
+        query.addOptional(new WhereBuilder()
+                .addWhere(uriVar, NodeFactory.createURI(Rdf.RELATION_TYPE.toString()), typeVar)
+                .addWhere(uriVar, NodeFactory.createURI(Rdfs.RELATION_LABEL.toString()), labelVar));
+        LOGGER.debug(SPARQL_QUERY + query.buildString());
+        
+        // concerned items by object URI, then by concerned item URI and type
+        Map<String, Map<String, ConcernedItem>> concernedItemsIndex = new LinkedHashMap<>();
+        try (TupleQueryResult result = prepareRDF4JTupleQuery(query.build()).evaluate()) {
+            while (result.hasNext()) {
+                BindingSet bindingSet = result.next();
+                String objectUri = getStringValueOfSelectNameFromBindingSet(OBJECT_URI_SELECT_NAME, bindingSet);
+                String uri = getStringValueOfSelectNameFromBindingSet(CONCERNED_ITEM_URI_SELECT_NAME, bindingSet);
+                String type = getStringValueOfSelectNameFromBindingSet(CONCERNED_ITEM_TYPE_SELECT_NAME, bindingSet);
+                String label = getStringValueOfSelectNameFromBindingSet(CONCERNED_ITEM_LABEL_SELECT_NAME, bindingSet);
+                if (uri == null) {
+                    continue;
+                }
+                
+                ConcernedItem concernedItem = concernedItemsIndex
+                        .computeIfAbsent(objectUri, key -> new LinkedHashMap<>())
+                        .computeIfAbsent(uri + " " + type, key -> new ConcernedItem(uri, type, new ArrayList<>(), objectUri));
+                if (label != null && !concernedItem.getLabels().contains(label)) {
+                    concernedItem.getLabels().add(label);
+                }
+            }
+        } catch (RepositoryException|MalformedQueryException|QueryEvaluationException ex) {
+            handleTriplestoreException(ex);
+        }
+        
+        concernedItemsIndex.forEach((objectUri, concernedItems) -> {
+            concernedItems.values().forEach(concernedItem -> {
+                //SILEX:info
+                // Same labels as the GROUP_CONCAT of find when the concerned 
+                // item has no label
+                //\SILEX:info
+                if (concernedItem.getLabels().isEmpty()) {
+                    concernedItem.getLabels().add("");
+                }
+            });
+            concernedItemsByObject.put(objectUri, new ArrayList<>(concernedItems.values()));
+        });
+        return concernedItemsByObject;
+    }
+    
     /**
      * Adds statements to an update builder to insert concerned items. 
      * @param updateBuilder
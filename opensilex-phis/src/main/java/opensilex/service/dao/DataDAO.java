@@ -7,7 +7,6 @@
 //******************************************************************************
 package opensilex.service.dao;
 
-import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.BasicDBObjectBuilder;
 import com.mongodb.MongoClient;
@@ -23,8 +22,10 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.ws.rs.core.Response;
 import opensilex.service.dao.exception.DAODataErrorAggregateException;
@@ -37,7 +38,6 @@ import org.slf4j.LoggerFactory;
 import opensilex.service.configuration.DateFormat;
 import opensilex.service.dao.manager.MongoDAO;
 import opensilex.service.documentation.StatusCodeMsg;
-import opensilex.service.ontology.Oeso;
 import opensilex.service.utils.POSTResultsReturn;
 import opensilex.service.utils.UriGenerator;
 import opensilex.service.view.brapi.Status;
@@ -89,18 +89,32 @@ public class DataDAO extends MongoDAO<Data> {
         VariableDAO variableDAO = new VariableDAO(sparql);
         ProvenanceDAO provenanceDAO = new ProvenanceDAO(sparql);
 
+        //SILEX:info
+        //A data list usually references a few variables and provenances,
+        //so each distinct uri is only checked once
+        //\SILEX:info
+        Set<String> variablesUris = new LinkedHashSet<>();
+        Set<String> provenancesUris = new LinkedHashSet<>();
         for (Data data : dataList) {
-            // 1. Check if the variableUri exist and is a variable
-            if (!variableDAO.existAndIsVariable(data.getVariableUri())) {
+            variablesUris.add(data.getVariableUri());
+            provenancesUris.add(data.getProvenanceUri());
+        }
+
+        // 1. Check if the variableUri exist and is a variable
+        for (String variable : variablesUris) {
+            if (!variableDAO.existAndIsVariable(variable)) {
                 dataOk = false;
                 checkStatus.add(new Status(StatusCodeMsg.WRONG_VALUE, StatusCodeMsg.ERR,
-                        "Unknown variable : " + data.getVariableUri()));
-            } 
-            // 2. Check if the provenance uri exist and is a provenance
-            if (!provenanceDAO.existProvenanceUri(data.getProvenanceUri())) {
+                        "Unknown variable : " + variable));
+            }
+        }
+
+        // 2. Check if the provenance uri exist and is a provenance
+        for (String provenance : provenancesUris) {
+            if (!provenanceDAO.existProvenanceUri(provenance)) {
                 dataOk = false;
                 checkStatus.add(new Status(StatusCodeMsg.WRONG_VALUE, StatusCodeMsg.ERR, 
-                    "Unknown provenance : " + data.getProvenanceUri()));
+                    "Unknown provenance : " + provenance));
             }
         }
 
@@ -109,38 +123,48 @@ public class DataDAO extends MongoDAO<Data> {
         return checkResult;
     }
 
+    /**
+     * Generates the uris of the given data.
+     * Uris contain a random part so no existence check is done, duplicated
+     * data are rejected by the unique index of the variable collection.
+     * @param dataList
+     */
+    private void generateDataUris(List<Data> dataList) {
+        List<String> keys = new ArrayList<>(dataList.size());
+        for (Data data : dataList) {
+            keys.add(data.getVariableUri() + data.getObjectUri() + data.getProvenanceUri() + data.getDate());
+        }
+
+        try {
+            List<String> uris = UriGenerator.generateDataUris(keys);
+            for (int i = 0; i < dataList.size(); i++) {
+                dataList.get(i).setUri(uris.get(i));
+            }
+        } catch (Exception e) {
+            LOGGER.error("Exception while generating uri, should never append", e);
+        }
+    }
+
     /**
      * Generates the query to insert a new data in the MongoDB database.
      * @param data
      * @return the document to insert, representing the given data
-     * @throws ParseException
      */
     private Document prepareInsertDataDocument(Data data) {
         Document document = new Document();
 
-        String key = data.getVariableUri() + data.getObjectUri() + data.getProvenanceUri() + data.getDate();
-        try {
-            String uri = UriGenerator.generateNewInstanceUri(sparql, Oeso.CONCEPT_DATA.toString(), null, key);
+        document.append(DB_FIELD_URI, data.getUri());
+        document.append(DB_FIELD_OBJECT, data.getObjectUri());
+        document.append(DB_FIELD_VARIABLE, data.getVariableUri());
+        document.append(DB_FIELD_DATE, data.getDate());
+        document.append(DB_FIELD_PROVENANCE, data.getProvenanceUri());
+        document.append(DB_FIELD_VALUE, data.getValue());
+        document.append(DB_FIELD_METADATA, data.getMetadata());
 
-            while (uriExists(data.getVariableUri(), uri)) {
-                uri = UriGenerator.generateNewInstanceUri(sparql, Oeso.CONCEPT_DATA.toString(), null, key);
-            }
-            
-            data.setUri(uri);
-            
-            document.append(DB_FIELD_URI, data.getUri());
-            document.append(DB_FIELD_OBJECT, data.getObjectUri());
-            document.append(DB_FIELD_VARIABLE, data.getVariableUri());
-            document.append(DB_FIELD_DATE, data.getDate());
-            document.append(DB_FIELD_PROVENANCE, data.getProvenanceUri());
-            document.append(DB_FIELD_VALUE, data.getValue());
-            document.append(DB_FIELD_METADATA, data.getMetadata());
-            
-            LOGGER.debug(document.toJson());
-        } catch (Exception e) {
-            LOGGER.error("Exception while generating uri, should never append", e);
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(document.toJson());
         }
-        
+
         return document;
     }
 
@@ -178,6 +202,7 @@ public class DataDAO extends MongoDAO<Data> {
         HashMap<String, List<Document>> dataListToInsertByVariable = new HashMap<>();
 
         //1. Prepare all the documents to insert (we will do one insert by variable)
+        generateDataUris(dataList);
         for (Data data : dataList) {
             Document createData = prepareInsertDataDocument(data);
 
@@ -415,7 +440,8 @@ public class DataDAO extends MongoDAO<Data> {
      * @example 
      * {
      *      "variable": "http://www.opensilex.org/opensilex/id/variables/v001", 
-     *      "provenance": "http://www.opensilex.org/opensilex/id/provenance/1552386023784"
+     *      "provenance": "http://www.opensilex.org/opensilex/id/provenance/1552386023784",
+     *      "object": { "$in": ["http://www.opensilex.org/opensilex/2019/o19000060", "http://www.opensilex.org/opensilex/2019/o19000061"] }
      * }
      * @return the generated query
      */
@@ -451,12 +477,7 @@ public class DataDAO extends MongoDAO<Data> {
         // Objects filter
         if (objectsUris != null && !objectsUris.isEmpty()) {
             if (objectsUris.size() > 1) {
-                BasicDBList or = new BasicDBList();
-                for (String objectUri : objectsUris) {
-                    BasicDBObject clause = new BasicDBObject(DB_FIELD_OBJECT, objectUri);
-                    or.add(clause);
-                }
-                query.append("$or", or);
+                query.append(DB_FIELD_OBJECT, new BasicDBObject("$in", objectsUris));
             } else {
                 query.append(DB_FIELD_OBJECT, objectsUris.get(0));
             }
@@ -465,12 +486,7 @@ public class DataDAO extends MongoDAO<Data> {
         //Provenance filter
         if (provenancesUris != null && !provenancesUris.isEmpty()) {
             if (provenancesUris.size() > 1) {
-                BasicDBList or = new BasicDBList();
-                for (String provenanceUri : provenancesUris) {
-                    BasicDBObject clause = new BasicDBObject(DB_FIELD_PROVENANCE, provenanceUri);
-                    or.add(clause);
-                }
-                query.append("$or", or);
+                query.append(DB_FIELD_PROVENANCE, new BasicDBObject("$in", provenancesUris));
             } else {
                 query.append(DB_FIELD_PROVENANCE, provenancesUris.get(0));
             }
@@ -525,6 +541,28 @@ public class DataDAO extends MongoDAO<Data> {
      * @return the data founded.
      */
     public List<Data> find(Integer page, Integer pageSize, String variableUri, String startDate, String endDate, List<String> objectsUris, List<String> provenancesUris) {
+        Integer offset = null;
+        Integer limit = null;
+        if (page != null && pageSize != null) {
+            offset = page * pageSize;
+            limit = pageSize;
+        }
+        return findWithOffset(offset, limit, variableUri, startDate, endDate, objectsUris, provenancesUris);
+    }
+
+    /**
+     * Find data by the given search params, skipping the given number of results.
+     * Used to paginate results spread over several variables collections.
+     * @param offset number of data to skip
+     * @param limit maximum number of data to return
+     * @param variableUri
+     * @param startDate
+     * @param endDate
+     * @param objectsUris
+     * @param provenancesUris
+     * @return the data founded.
+     */
+    public List<Data> findWithOffset(Integer offset, Integer limit, String variableUri, String startDate, String endDate, List<String> objectsUris, List<String> provenancesUris) {
         // Get the collection corresponding to variable uri
         String variableCollection = this.getCollectionFromVariable(variableUri);
         MongoCollection<Document> dataVariableCollection = database.getCollection(variableCollection);
@@ -547,8 +585,11 @@ public class DataDAO extends MongoDAO<Data> {
         }
         
         // Define pagination for the request
-        if (page != null && pageSize != null) {
-            dataMongo = dataMongo.skip(page * pageSize).limit(pageSize);
+        if (offset != null && offset > 0) {
+            dataMongo = dataMongo.skip(offset);
+        }
+        if (limit != null) {
+            dataMongo = dataMongo.limit(limit);
         }
         
         ArrayList<Data> dataList = new ArrayList<>();
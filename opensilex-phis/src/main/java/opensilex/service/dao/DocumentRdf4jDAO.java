@@ -11,15 +11,21 @@ package opensilex.service.dao;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import opensilex.service.dao.exception.DAODataErrorAggregateException;
 import opensilex.service.dao.exception.DAOPersistenceException;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
 import org.apache.jena.arq.querybuilder.UpdateBuilder;
+import org.apache.jena.arq.querybuilder.WhereBuilder;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.sparql.core.Var;
 import org.apache.jena.update.UpdateRequest;
 import org.apache.jena.vocabulary.DCTerms;
 import org.apache.jena.vocabulary.RDF;
@@ -531,23 +537,34 @@ public class DocumentRdf4jDAO extends Rdf4jDAO<Document> {
 
     /**
      * Prepare the query to search the elements which are concerned by the
-     * document
+     * given documents. Returns one line per document and concerned element.
      *
-     * @param uriDocument
+     * @example SELECT DISTINCT ?documentUri ?concernedItemUri ?concernedItemType
+     * WHERE { GRAPH <http://www.phenome-fppn.fr/phis2/documents> {
+     * VALUES ?documentUri { <http://www.phenome-fppn.fr/phis2/documents/document1> }
+     * ?documentUri <http://www.opensilex.org/vocabulary/oeso#concerns> ?concernedItemUri .
+     * ?concernedItemUri rdf:type ?concernedItemType . }}
+     * @param documentsUris
      * @return the search query
      */
-    private SPARQLQueryBuilder prepareSearchConcernedItemsQuery(String uriDocument) {
-        SPARQLQueryBuilder sparqlQuery = new SPARQLQueryBuilder();
-        sparqlQuery.appendDistinct(true);
-        sparqlQuery.appendGraph(Contexts.DOCUMENTS.toString());
-
-        sparqlQuery.appendSelect(" ?" + CONCERNED_ITEM_URI + " ?" + CONCERNED_ITEM_TYPE);
-        sparqlQuery.appendTriplet(uriDocument, Oeso.RELATION_CONCERNS.toString(), "?" + CONCERNED_ITEM_URI, null);
-        sparqlQuery.appendTriplet("?" + CONCERNED_ITEM_URI, Rdf.RELATION_TYPE.toString(), "?" + CONCERNED_ITEM_TYPE, null);
+    private SelectBuilder prepareSearchConcernedItemsQuery(Collection<String> documentsUris) {
+        Var uriVar = makeVar(URI);
+        Var concernedItemUriVar = makeVar(CONCERNED_ITEM_URI);
+        Var concernedItemTypeVar = makeVar(CONCERNED_ITEM_TYPE);
+
+        SelectBuilder query = new SelectBuilder();
+        query.setDistinct(true);
+        query.addVar(uriVar);
+        query.addVar(concernedItemUriVar);
+        query.addVar(concernedItemTypeVar);
+        query.addGraph(NodeFactory.createURI(Contexts.DOCUMENTS.toString()), new WhereBuilder()
+                .addWhereValueVar(uriVar, documentsUris.stream().map(NodeFactory::createURI).toArray())
+                .addWhere(uriVar, NodeFactory.createURI(Oeso.RELATION_CONCERNS.toString()), concernedItemUriVar)
+                .addWhere(concernedItemUriVar, RDF.type, concernedItemTypeVar));
+
+        LOGGER.debug(SPARQL_QUERY + query.buildString());
 
-        LOGGER.debug(SPARQL_QUERY + sparqlQuery.toString());
-
-        return sparqlQuery;
+        return query;
     }
 
     /**
@@ -679,14 +696,19 @@ public class DocumentRdf4jDAO extends Rdf4jDAO<Document> {
             }
         }
 
-        for (Document document : documents) {
-            //Check if document is linked to other elements
-            SPARQLQueryBuilder sparqlQueryConcernedItem = prepareSearchConcernedItemsQuery(document.getUri());
-            TupleQuery tupleQueryConcernedItem = prepareRDF4JTupleQuery(sparqlQueryConcernedItem);
+        //Check if documents are linked to other elements
+        if (!documents.isEmpty()) {
+            Map<String, Document> documentsByUri = new HashMap<>();
+            for (Document document : documents) {
+                documentsByUri.put(document.getUri(), document);
+            }
+
+            TupleQuery tupleQueryConcernedItem = prepareRDF4JTupleQuery(prepareSearchConcernedItemsQuery(documentsByUri.keySet()).build());
             try (TupleQueryResult resultConcernedItem = tupleQueryConcernedItem.evaluate()) {
                 while (resultConcernedItem.hasNext()) {
                     BindingSet bindingSetConcernedItem = resultConcernedItem.next();
-                    if (bindingSetConcernedItem.getValue(CONCERNED_ITEM_URI) != null) {
+                    Document document = documentsByUri.get(bindingSetConcernedItem.getValue(URI).stringValue());
+                    if (document != null && bindingSetConcernedItem.getValue(CONCERNED_ITEM_URI) != null) {
                         ConcernedItemDTO concernedItem = new ConcernedItemDTO();
                         concernedItem.setTypeURI(bindingSetConcernedItem.getValue(CONCERNED_ITEM_TYPE).stringValue());
                         concernedItem.setUri(bindingSetConcernedItem.getValue(CONCERNED_ITEM_URI).stringValue());
@@ -8,8 +8,10 @@
 package opensilex.service.dao;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.jena.arq.querybuilder.ExprFactory;
@@ -47,6 +49,7 @@ import opensilex.service.ontology.Time;
 import opensilex.service.utils.UriGenerator;
 import opensilex.service.utils.sparql.SPARQLQueryBuilder;
 import opensilex.service.model.Annotation;
+import opensilex.service.model.ConcernedItem;
 import opensilex.service.model.Event;
 import opensilex.service.model.Instant;
 import opensilex.service.ontology.Xsd;
@@ -300,13 +303,8 @@ public class EventDAO extends Rdf4jDAO<Event> {
         TupleQuery eventsTupleQuery = prepareRDF4JTupleQuery(eventsQuery);
         
         ArrayList<Event> events = new ArrayList<>();
-        ConcernedItemDAO concernedItemDao = new ConcernedItemDAO(
-                sparql,
-                user,
-                Contexts.EVENTS.toString(),
-                Oeev.concerns.getURI());
 
-        // for each event, set its properties and concerned Items
+        // for each event, set its properties
         try (TupleQueryResult eventsResult = eventsTupleQuery.evaluate()) {
 
             boolean first = true;
@@ -335,28 +333,39 @@ public class EventDAO extends Rdf4jDAO<Event> {
             handleTriplestoreException(ex);
         }
 
-        for (Event event : events) {
-            
-                // Concerned items
-                event.setConcernedItems(concernedItemDao.find(
-                        event.getUri(),
-                        null,
-                        null,
-                        0,
-                        pageSizeMaxValue));
-
-                // Concerned items
-                event.setConcernedItems(concernedItemDao.find(
-                        event.getUri(),
-                        null,
-                        null,
-                        0,
-                        pageSizeMaxValue));
-        }
+        setEventsConcernedItemsAndAnnotations(events);
         
         return events;
     }
 
+    /**
+     * Sets the concerned items and the annotations of events, with one query 
+     * for all the events concerned items and one for their annotations.
+     * @param events
+     * @throws DAOPersistenceException 
+     */
+    private void setEventsConcernedItemsAndAnnotations(List<Event> events) throws DAOPersistenceException {
+        List<String> eventsUris = events.stream()
+                .map(Event::getUri)
+                .collect(Collectors.toList());
+
+        ConcernedItemDAO concernedItemDao = new ConcernedItemDAO(
+                sparql,
+                user,
+                Contexts.EVENTS.toString(),
+                Oeev.concerns.getURI());
+        Map<String, List<ConcernedItem>> concernedItemsByEvent = concernedItemDao.findByObjects(eventsUris);
+
+        AnnotationDAO annotationDAO = new AnnotationDAO(sparql);
+        annotationDAO.user = user;
+        Map<String, List<Annotation>> annotationsByEvent = annotationDAO.findByTargets(eventsUris);
+
+        for (Event event : events) {
+            event.setConcernedItems(concernedItemsByEvent.getOrDefault(event.getUri(), new ArrayList<>()));
+            event.setAnnotations(annotationsByEvent.getOrDefault(event.getUri(), new ArrayList<>()));
+        }
+    }
+
     /**
      * Searches an event by its URI.
      *
@@ -367,11 +376,6 @@ public class EventDAO extends Rdf4jDAO<Event> {
     @Override
     public Event findById(String searchUri) throws DAOPersistenceException {
         SPARQLQueryBuilder eventQuery = prepareSearchQueryEvent(searchUri);
-        ConcernedItemDAO concernedItemDao = new ConcernedItemDAO(
-                sparql,
-                user,
-                Contexts.EVENTS.toString(),
-                Oeev.concerns.getURI());
         Event event = null;
 
         // Get event from storage
@@ -391,26 +395,8 @@ public class EventDAO extends Rdf4jDAO<Event> {
                 // Properties
                 setEventProperties(event);
 
-                // Concerned items
-                event.setConcernedItems(concernedItemDao.find(
-                        event.getUri(),
-                        null,
-                        null,
-                        0,
-                        pageSizeMaxValue));
-
-                // Annotations
-                AnnotationDAO annotationDAO = new AnnotationDAO(sparql);
-                annotationDAO.user = user;
-                event.setAnnotations(annotationDAO.find(
-                        null,
-                        null,
-                        event.getUri(),
-                        null,
-                        null,
-                        true,
-                        0,
-                        pageSizeMaxValue));
+                // Concerned items and annotations
+                setEventsConcernedItemsAndAnnotations(Collections.singletonList(event));
             }
         } catch (RepositoryException | MalformedQueryException | QueryEvaluationException ex) {
             handleTriplestoreException(ex);
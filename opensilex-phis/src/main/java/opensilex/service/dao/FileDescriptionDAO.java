@@ -7,6 +7,7 @@
 //******************************************************************************
 package opensilex.service.dao;
 
+import com.google.common.hash.Hashing;
 import com.jcraft.jsch.SftpException;
 import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
@@ -474,6 +475,7 @@ public class FileDescriptionDAO extends MongoDAO<FileDescription> {
 
             final String filename = Base64.getEncoder().encodeToString(fileDescription.getUri().getBytes());
             fileDescription.setPath(fileStorageDirectory.toString() + filename);
+            fileDescription.setChecksum(com.google.common.io.Files.asByteSource(file).hash(Hashing.sha256()).toString());
 
             //3. Insert metadata first
             fileDescriptionCollection.insertOne(session, fileDescription);
@@ -0,0 +1,111 @@
+//******************************************************************************
+//                              LabelResolver.java
+// SILEX-PHIS
+// Copyright © INRAE 2020
+// Creation date: 20 May 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package opensilex.service.dao;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import opensilex.service.dao.manager.LabelCache;
+import org.opensilex.sparql.service.SPARQLService;
+
+/**
+ * Bulk labels resolver for scientific objects and provenances.
+ *
+ * Labels of all the distinct URIs given are fetched with a single query per
+ * resource kind and kept in caches shared by all services. DAOs updating
+ * labels must invalidate them, other changes are visible once cached labels
+ * expire.
+ *
+ * @author vincent
+ */
+public class LabelResolver {
+
+    private final static LabelCache<List<String>> OBJECTS_LABELS = new LabelCache<>();
+
+    private final static LabelCache<String> PROVENANCES_LABELS = new LabelCache<>();
+
+    private final SPARQLService sparql;
+
+    public LabelResolver(SPARQLService sparql) {
+        this.sparql = sparql;
+    }
+
+    /**
+     * Get labels of the given scientific objects.
+     *
+     * @param objectsUris scientific objects URIs, null values are ignored
+     * @return map of labels by object URI, objects without label are not
+     * included
+     */
+    public Map<String, List<String>> getObjectsLabels(Collection<String> objectsUris) {
+        Set<String> uris = distinctUris(objectsUris);
+        Map<String, List<String>> labels = OBJECTS_LABELS.getAll(uris);
+        uris.removeAll(labels.keySet());
+
+        if (!uris.isEmpty()) {
+            ScientificObjectRdf4jDAO scientificObjectDAO = new ScientificObjectRdf4jDAO(sparql);
+            Map<String, List<String>> foundLabels = scientificObjectDAO.findLabelsForUris(uris);
+            OBJECTS_LABELS.putAll(foundLabels);
+            labels.putAll(foundLabels);
+        }
+
+        return labels;
+    }
+
+    /**
+     * Get labels of the given provenances.
+     *
+     * @param provenancesUris provenances URIs, null values are ignored
+     * @return map of label by provenance URI, unknown provenances are not
+     * included
+     */
+    public Map<String, String> getProvenancesLabels(Collection<String> provenancesUris) {
+        Set<String> uris = distinctUris(provenancesUris);
+        Map<String, String> labels = PROVENANCES_LABELS.getAll(uris);
+        uris.removeAll(labels.keySet());
+
+        if (!uris.isEmpty()) {
+            ProvenanceDAO provenanceDAO = new ProvenanceDAO(sparql);
+            Map<String, String> foundLabels = provenanceDAO.findLabelsByUris(uris);
+            PROVENANCES_LABELS.putAll(foundLabels);
+            labels.putAll(foundLabels);
+        }
+
+        return labels;
+    }
+
+    /**
+     * Remove cached labels of the given scientific object.
+     *
+     * @param objectUri scientific object URI
+     */
+    public static void invalidateObject(String objectUri) {
+        OBJECTS_LABELS.invalidate(objectUri);
+    }
+
+    /**
+     * Remove cached label of the given provenance.
+     *
+     * @param provenanceUri provenance URI
+     */
+    public static void invalidateProvenance(String provenanceUri) {
+        PROVENANCES_LABELS.invalidate(provenanceUri);
+    }
+
+    private static Set<String> distinctUris(Collection<String> uris) {
+        Set<String> distinctUris = new LinkedHashSet<>();
+        for (String uri : uris) {
+            if (uri != null && !uri.isEmpty()) {
+                distinctUris.add(uri);
+            }
+        }
+        return distinctUris;
+    }
+}
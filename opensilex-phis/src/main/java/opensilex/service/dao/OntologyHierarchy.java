@@ -0,0 +1,91 @@
+//******************************************************************************
+//                              OntologyHierarchy.java
+// SILEX-PHIS
+// Copyright © INRAE 2020
+// Creation date: 2 June 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package opensilex.service.dao;
+
+import java.util.Set;
+import opensilex.service.dao.manager.ClassHierarchy;
+import org.opensilex.sparql.service.SPARQLService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In memory classes hierarchy shared by all services.
+ *
+ * The hierarchy is loaded from the triplestore with a single query on first
+ * use and loaded again when ontologies version changes, i.e. after ontologies
+ * are installed or reset, or when it is older than
+ * {@link SPARQLService#ONTOLOGY_CACHE_TTL} for changes made by another process.
+ *
+ * @author vincent
+ */
+public class OntologyHierarchy {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(OntologyHierarchy.class);
+
+    private static volatile ClassHierarchy hierarchy;
+
+    private final SPARQLService sparql;
+
+    public OntologyHierarchy(SPARQLService sparql) {
+        this.sparql = sparql;
+    }
+
+    /**
+     * @return current classes hierarchy, loaded if ontologies changed
+     */
+    public ClassHierarchy getHierarchy() {
+        ClassHierarchy current = hierarchy;
+        if (!isValid(current)) {
+            synchronized (OntologyHierarchy.class) {
+                current = hierarchy;
+                if (!isValid(current)) {
+                    long version = SPARQLService.getOntologyVersion();
+                    LOGGER.debug("Load classes hierarchy for ontologies version: " + version);
+                    current = new ClassHierarchy(version, System.currentTimeMillis(), new UriDAO(sparql).findSubClassOfRelations());
+                    hierarchy = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static boolean isValid(ClassHierarchy current) {
+        return current != null && SPARQLService.isOntologyCacheValid(current.getVersion(), current.getLoadTime());
+    }
+
+    /**
+     * Remove loaded hierarchy, next access will load it again.
+     */
+    public static void invalidate() {
+        hierarchy = null;
+    }
+
+    public boolean isSubClassOf(String subClassUri, String classUri) {
+        return getHierarchy().isSubClassOf(subClassUri, classUri);
+    }
+
+    public Set<String> getParents(String classUri) {
+        return getHierarchy().getParents(classUri);
+    }
+
+    public Set<String> getChildren(String classUri) {
+        return getHierarchy().getChildren(classUri);
+    }
+
+    public Set<String> getAncestors(String classUri) {
+        return getHierarchy().getAncestors(classUri);
+    }
+
+    public Set<String> getDescendants(String classUri) {
+        return getHierarchy().getDescendants(classUri);
+    }
+
+    public Set<String> getSiblings(String classUri) {
+        return getHierarchy().getSiblings(classUri);
+    }
+}
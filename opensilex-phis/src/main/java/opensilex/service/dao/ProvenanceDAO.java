@@ -17,6 +17,7 @@ import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -347,6 +348,7 @@ public class ProvenanceDAO extends MongoDAO<Provenance> {
         for (Provenance provenance : provenances) {
             try {
                 collection.replaceOne(prepareGetProvenanceByUri(provenance.getUri()), prepareUpdateProvenanceDocument(provenance));
+                LabelResolver.invalidateProvenance(provenance.getUri());
                 updatedResources.add(provenance.getUri());
             } catch (MongoException ex) {
                 // Define that an error occurs
@@ -488,6 +490,37 @@ public class ProvenanceDAO extends MongoDAO<Provenance> {
         }
     }
 
+    /**
+     * Find the labels of the provenances with the given uris in a single query.
+     * @param uris
+     * @example
+     * {"uri": {"$in": ["http://www.opensilex.org/opensilex/id/provenance/1552386023784", "http://www.opensilex.org/opensilex/id/provenance/1552386023785"]}}
+     * @return the labels by provenance uri
+     */
+    public Map<String, String> findLabelsByUris(Collection<String> uris) {
+        Map<String, String> provenances = new HashMap<>();
+        if (uris.isEmpty()) {
+            return provenances;
+        }
+
+        MongoCollection<Document> provenanceCollection = database.getCollection(provenanceCollectionName);
+        BasicDBObject query = new BasicDBObject();
+        query.put(DB_FIELD_URI, new BasicDBObject("$in", new ArrayList<>(uris)));
+        LOGGER.debug(query.toJson());
+
+        FindIterable<Document> provenancesMongo = provenanceCollection.find(query)
+                .projection(new Document(DB_FIELD_URI, 1).append(DB_FIELD_LABEL, 1));
+
+        try (MongoCursor<Document> provenanceCursor = provenancesMongo.iterator()) {
+            while (provenanceCursor.hasNext()) {
+                Document provenanceDocument = provenanceCursor.next();
+                provenances.put(provenanceDocument.getString(DB_FIELD_URI), provenanceDocument.getString(DB_FIELD_LABEL));
+            }
+        }
+
+        return provenances;
+    }
+
     @Override
     public List<Provenance> create(List<Provenance> objects) throws DAOPersistenceException, Exception {
         throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
@@ -1198,6 +1198,7 @@ public class ScientificObjectRdf4jDAO extends Rdf4jDAO<ScientificObject> {
 
             Update prepareUpdate = prepareRDF4JUpdateQuery(insertQuery);
             prepareUpdate.execute();
+            LabelResolver.invalidateObject(scientificObject.getUri());
 
             //2.2 Relational database data
             ScientificObjectMongoDAO scientificObjectDAO = new ScientificObjectMongoDAO();
@@ -11,8 +11,13 @@ package opensilex.service.dao;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import opensilex.service.dao.exception.DAODataErrorAggregateException;
 import opensilex.service.dao.exception.DAOPersistenceException;
 import org.eclipse.rdf4j.model.Literal;
@@ -196,7 +201,8 @@ public class UriDAO extends Rdf4jDAO<Uri> {
     }
 
     /**
-     * Searches instances by URI, concept
+     * Searches instances by URI, concept. Subclasses of a given concept are
+     * resolved with {@link OntologyHierarchy}.
      * @return SPARQLQueryBuilder the query
      * query example :
      * SELECT DISTINCT ?instance ?subclass ?label
@@ -221,8 +227,21 @@ public class UriDAO extends Rdf4jDAO<Uri> {
 
         query.appendSelect(" ?" + TRIPLESTORE_FIELDS_INSTANCE);
         query.appendSelect(" ?" + TRIPLESTORE_FIELDS_SUBCLASS);
-        // if deep get descendents
-        if (deep) {
+        if (uri != null) {
+            // subclasses are taken from the in memory hierarchy
+            OntologyHierarchy hierarchy = new OntologyHierarchy(sparql);
+            Set<String> subClasses;
+            if (deep) {
+                subClasses = new LinkedHashSet<>();
+                subClasses.add(uri);
+                subClasses.addAll(hierarchy.getDescendants(uri));
+            } else {
+                subClasses = hierarchy.getChildren(uri);
+            }
+            query.appendToBody("VALUES ?" + TRIPLESTORE_FIELDS_SUBCLASS + " { " 
+                    + subClasses.stream().map(subClass -> "<" + subClass + ">").collect(Collectors.joining(" ")) 
+                    + " }");
+        } else if (deep) {
             query.appendTriplet("?" + TRIPLESTORE_FIELDS_SUBCLASS, "<" + Rdfs.RELATION_SUBCLASS_OF.toString() + ">*", contextURI, null);
         } else {
             query.appendTriplet("?" + TRIPLESTORE_FIELDS_SUBCLASS, Rdfs.RELATION_SUBCLASS_OF.toString(), contextURI, null);
@@ -408,6 +427,9 @@ public class UriDAO extends Rdf4jDAO<Uri> {
      * @return the ancestors info all paginate
      */
     public ArrayList<Uri> ancestorsAllPaginate() {
+        if (uri != null) {
+            return getConcepts(new OntologyHierarchy(sparql).getParents(uri));
+        }
 
         SPARQLQueryBuilder query = prepareAncestorsQuery();
         TupleQuery tupleQuery = prepareRDF4JTupleQuery(query);
@@ -431,6 +453,9 @@ public class UriDAO extends Rdf4jDAO<Uri> {
      * @return the siblings info all paginate
      */
     public ArrayList<Uri> siblingsAllPaginate() {
+        if (uri != null) {
+            return getConcepts(new OntologyHierarchy(sparql).getSiblings(uri));
+        }
 
         SPARQLQueryBuilder query = prepareSiblingsQuery();
         TupleQuery tupleQuery = prepareRDF4JTupleQuery(query);
@@ -453,6 +478,12 @@ public class UriDAO extends Rdf4jDAO<Uri> {
      * @return the descendants info all paginate
      */
     public ArrayList<Uri> descendantsAllPaginate() {
+        if (uri != null) {
+            Set<String> descendants = new LinkedHashSet<>();
+            descendants.add(uri);
+            descendants.addAll(new OntologyHierarchy(sparql).getDescendants(uri));
+            return getConcepts(descendants);
+        }
 
         SPARQLQueryBuilder query = prepareDescendantsQuery();
         TupleQuery tupleQuery = prepareRDF4JTupleQuery(query);
@@ -470,6 +501,52 @@ public class UriDAO extends Rdf4jDAO<Uri> {
         return concepts;
     }
 
+    private static ArrayList<Uri> getConcepts(Set<String> conceptsUris) {
+        ArrayList<Uri> concepts = new ArrayList<>();
+        for (String conceptUri : conceptsUris) {
+            Uri concept = new Uri();
+            concept.setUri(conceptUri);
+            concepts.add(concept);
+        }
+        return concepts;
+    }
+
+    /**
+     * Generates a query to get all the rdfs:subClassOf relations.
+     * @return the query
+     * @example
+     * SELECT DISTINCT ?subclass ?class 
+     * WHERE {
+     *    ?subclass rdfs:subClassOf ?class 
+     * }
+     */
+    private SPARQLQueryBuilder prepareSubClassOfRelationsQuery() {
+        SPARQLQueryBuilder query = new SPARQLQueryBuilder();
+        query.appendDistinct(Boolean.TRUE);
+        query.appendSelect("?" + TRIPLESTORE_FIELDS_SUBCLASS + " ?" + TRIPLESTORE_FIELDS_CLASS);
+        query.appendTriplet("?" + TRIPLESTORE_FIELDS_SUBCLASS, Rdfs.RELATION_SUBCLASS_OF.toString(), "?" + TRIPLESTORE_FIELDS_CLASS, null);
+        LOGGER.debug(SPARQL_QUERY + query.toString());
+        return query;
+    }
+
+    /**
+     * Gets all the rdfs:subClassOf relations of the triplestore, used to build
+     * {@link OntologyHierarchy}.
+     * @return direct parents by class URI
+     */
+    public Map<String, Set<String>> findSubClassOfRelations() {
+        Map<String, Set<String>> parents = new HashMap<>();
+        TupleQuery tupleQuery = prepareRDF4JTupleQuery(prepareSubClassOfRelationsQuery());
+        try (TupleQueryResult result = tupleQuery.evaluate()) {
+            while (result.hasNext()) {
+                BindingSet bindingSet = result.next();
+                parents.computeIfAbsent(bindingSet.getValue(TRIPLESTORE_FIELDS_SUBCLASS).stringValue(), key -> new LinkedHashSet<>())
+                        .add(bindingSet.getValue(TRIPLESTORE_FIELDS_CLASS).stringValue());
+            }
+        }
+        return parents;
+    }
+
     /**
      * Returns the type of the URI if it's in the triplestore.
      * @return a boolean or a type
@@ -497,28 +574,6 @@ public class UriDAO extends Rdf4jDAO<Uri> {
         return uris;
     }
 
-    /**
-     * Generates an ask query to know if the given rdfSubType is a subclass of
-     * rdfType.
-     * @param rdfSubType
-     * @param rdfType
-     * @return the query. 
-     * @example
-     * ASK {
-     *    <http://www.opensilex.org/vocabulary/oeso#HemisphericalCamera>  rdfs:subClassOf* <http://www.opensilex.org/vocabulary/oeso#SensingDevice> 
-     * }
-     */
-    private SPARQLQueryBuilder prepareIsSubclassOf(String rdfSubType, String rdfType) {
-        SPARQLQueryBuilder query = new SPARQLQueryBuilder();
-        query.appendDistinct(Boolean.TRUE);
-
-        query.appendTriplet("<" + rdfSubType + ">", "<" + Rdfs.RELATION_SUBCLASS_OF.toString() + ">*", "<" + rdfType + ">", null);
-
-        query.appendAsk(""); //any = anything
-        LOGGER.debug(query.toString());
-        return query;
-    }
-
     /**
      * Generates an ask query to know if the given instance URI is an instance
      * of rdfType.
@@ -551,17 +606,15 @@ public class UriDAO extends Rdf4jDAO<Uri> {
     }
 
     /**
-     * Checks if the given rdfSubType is a sub class of the given rdfType.
+     * Checks if the given rdfSubType is a sub class of the given rdfType, 
+     * using the in memory {@link OntologyHierarchy}.
      * @param rdfSubType
      * @param rdfType
      * @return true if it is a subclass 
      *         false if not
      */
     public boolean isSubClassOf(String rdfSubType, String rdfType) {
-        SPARQLQueryBuilder query = prepareIsSubclassOf(rdfSubType, rdfType);
-
-        BooleanQuery booleanQuery = prepareRDF4JBooleanQuery(query);
-        return booleanQuery.evaluate();
+        return new OntologyHierarchy(sparql).isSubClassOf(rdfSubType, rdfType);
     }
 
     /**
@@ -0,0 +1,138 @@
+//******************************************************************************
+//                              ClassHierarchy.java
+// SILEX-PHIS
+// Copyright © INRAE 2020
+// Creation date: 2 June 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package opensilex.service.dao.manager;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable index of rdfs:subClassOf relations.
+ *
+ * Direct parents and children of each class are indexed at creation,
+ * transitive ancestors are computed on first access and memoized, so
+ * subclass checks do not need any query. Ancestors are only memoized for
+ * classes of the index, other URIs have no ancestors.
+ *
+ * @author vincent
+ */
+public class ClassHierarchy {
+
+    private final long version;
+
+    private final long loadTime;
+
+    private final Map<String, Set<String>> parents;
+
+    private final Map<String, Set<String>> children = new HashMap<>();
+
+    private final Map<String, Set<String>> ancestors = new ConcurrentHashMap<>();
+
+    /**
+     * @param version ontologies version the hierarchy is built from
+     * @param loadTime time in milliseconds the hierarchy is built at
+     * @param parents direct parents by class URI
+     */
+    public ClassHierarchy(long version, long loadTime, Map<String, Set<String>> parents) {
+        this.version = version;
+        this.loadTime = loadTime;
+        this.parents = parents;
+        parents.forEach((classUri, classParents) -> {
+            for (String parent : classParents) {
+                children.computeIfAbsent(parent, key -> new LinkedHashSet<>()).add(classUri);
+            }
+        });
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getLoadTime() {
+        return loadTime;
+    }
+
+    /**
+     * @param classUri
+     * @return direct parents of the class
+     */
+    public Set<String> getParents(String classUri) {
+        return Collections.unmodifiableSet(parents.getOrDefault(classUri, Collections.emptySet()));
+    }
+
+    /**
+     * @param classUri
+     * @return direct children of the class
+     */
+    public Set<String> getChildren(String classUri) {
+        return Collections.unmodifiableSet(children.getOrDefault(classUri, Collections.emptySet()));
+    }
+
+    /**
+     * @param classUri
+     * @return all the ancestors of the class, the class itself excluded
+     */
+    public Set<String> getAncestors(String classUri) {
+        if (!parents.containsKey(classUri)) {
+            return Collections.emptySet();
+        }
+        return ancestors.computeIfAbsent(classUri, key -> Collections.unmodifiableSet(collect(key, parents)));
+    }
+
+    /**
+     * @param classUri
+     * @return all the descendants of the class, the class itself excluded
+     */
+    public Set<String> getDescendants(String classUri) {
+        return collect(classUri, children);
+    }
+
+    /**
+     * @param classUri
+     * @return children of the class direct parents, the class itself included
+     */
+    public Set<String> getSiblings(String classUri) {
+        Set<String> siblings = new LinkedHashSet<>();
+        for (String parent : getParents(classUri)) {
+            siblings.addAll(getChildren(parent));
+        }
+        return siblings;
+    }
+
+    /**
+     * Same result as a rdfs:subClassOf* path between the two classes.
+     *
+     * @param subClassUri
+     * @param classUri
+     * @return true if the classes are equal or if classUri is an ancestor of
+     * subClassUri
+     */
+    public boolean isSubClassOf(String subClassUri, String classUri) {
+        if (subClassUri == null || classUri == null) {
+            return false;
+        }
+        return subClassUri.equals(classUri) || getAncestors(subClassUri).contains(classUri);
+    }
+
+    private static Set<String> collect(String classUri, Map<String, Set<String>> relations) {
+        Set<String> result = new LinkedHashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>(relations.getOrDefault(classUri, Collections.emptySet()));
+        while (!toVisit.isEmpty()) {
+            String related = toVisit.pop();
+            if (!related.equals(classUri) && result.add(related)) {
+                toVisit.addAll(relations.getOrDefault(related, Collections.emptySet()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,117 @@
+//******************************************************************************
+//                              LabelCache.java
+// SILEX-PHIS
+// Copyright © INRAE 2020
+// Creation date: 20 May 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package opensilex.service.dao.manager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short lived cache of resources labels indexed by URI.
+ *
+ * Entries expire after one minute so label updates done without invalidating
+ * the cache, e.g. directly in the triplestore, are visible after at most this
+ * delay, but repeated searches on the same page of data do not query labels
+ * again.
+ *
+ * @param <T> label type
+ * @author vincent
+ */
+public class LabelCache<T> {
+
+    /**
+     * Default time to live of cached labels in milliseconds.
+     */
+    public final static long DEFAULT_TTL = 60000;
+
+    /**
+     * Maximum number of labels kept in cache.
+     */
+    public final static int MAX_SIZE = 50000;
+
+    private final long ttl;
+
+    private final Map<String, LabelEntry<T>> labels = new ConcurrentHashMap<>();
+
+    public LabelCache() {
+        this(DEFAULT_TTL);
+    }
+
+    public LabelCache(long ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * Return cached labels for the given URIs, expired or unknown URIs are not
+     * included in result.
+     *
+     * @param uris resources URIs
+     * @return map of cached labels by URI
+     */
+    public Map<String, T> getAll(Collection<String> uris) {
+        Map<String, T> result = new HashMap<>();
+        long now = System.currentTimeMillis();
+        for (String uri : uris) {
+            LabelEntry<T> entry = labels.get(uri);
+            if (entry != null) {
+                if (entry.expiration < now) {
+                    labels.remove(uri, entry);
+                } else {
+                    result.put(uri, entry.label);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Store labels in cache.
+     *
+     * @param uriLabels map of labels by URI
+     */
+    public void putAll(Map<String, T> uriLabels) {
+        if (ttl <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (labels.size() + uriLabels.size() > MAX_SIZE) {
+            labels.values().removeIf(entry -> entry.expiration < now);
+            if (labels.size() + uriLabels.size() > MAX_SIZE) {
+                labels.clear();
+            }
+        }
+
+        long expiration = now + ttl;
+        uriLabels.forEach((uri, label) -> {
+            labels.put(uri, new LabelEntry<>(label, expiration));
+        });
+    }
+
+    /**
+     * Remove cached label of the given URI.
+     *
+     * @param uri resource URI
+     */
+    public void invalidate(String uri) {
+        labels.remove(uri);
+    }
+
+    private static class LabelEntry<T> {
+
+        private final T label;
+
+        private final long expiration;
+
+        private LabelEntry(T label, long expiration) {
+            this.label = label;
+            this.expiration = expiration;
+        }
+    }
+}
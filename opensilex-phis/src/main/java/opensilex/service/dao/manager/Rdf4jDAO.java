@@ -18,6 +18,7 @@ import opensilex.service.ontology.Rdf;
 import opensilex.service.ontology.Rdfs;
 import opensilex.service.utils.sparql.SPARQLQueryBuilder;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
 import org.apache.jena.arq.querybuilder.UpdateBuilder;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
@@ -25,6 +26,7 @@ import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.shared.JenaException;
+import org.apache.jena.sparql.core.Var;
 import org.apache.jena.sparql.modify.request.UpdateDeleteWhere;
 import org.apache.jena.update.UpdateRequest;
 import org.eclipse.rdf4j.RDF4JException;
@@ -41,6 +43,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -520,6 +523,46 @@ public abstract class Rdf4jDAO<T> extends DAO<T> {
         return labels;
     }
 
+    /**
+     * Get the lists of labels for the given uris with a single query.
+     *
+     * @param uris
+     * @example SELECT DISTINCT ?uri ?label WHERE {
+     * VALUES ?uri { <http://www.opensilex.org/opensilex/2019/o19000060> <http://www.opensilex.org/opensilex/2019/o19000061> }
+     * ?uri <http://www.w3.org/2000/01/rdf-schema#label> ?label . }
+     * @return the lists of labels by uri, uris without label are not included.
+     */
+    public Map<String, List<String>> findLabelsForUris(Collection<String> uris) {
+        Map<String, List<String>> urisAndLabels = new HashMap<>();
+        if (uris.isEmpty()) {
+            return urisAndLabels;
+        }
+
+        //1. Generate the query
+        Var uriVar = SelectBuilder.makeVar(URI);
+        Var labelVar = SelectBuilder.makeVar(LABEL);
+
+        SelectBuilder query = new SelectBuilder();
+        query.setDistinct(true);
+        query.addVar(uriVar);
+        query.addVar(labelVar);
+        query.addWhereValueVar(uriVar, uris.stream().map(NodeFactory::createURI).toArray());
+        query.addWhere(uriVar, NodeFactory.createURI(Rdfs.RELATION_LABEL.toString()), labelVar);
+        LOGGER.debug(SPARQL_QUERY + query.buildString());
+
+        //2. Get the result of the query
+        TupleQuery tupleQuery = prepareRDF4JTupleQuery(query.build());
+        try (TupleQueryResult result = tupleQuery.evaluate()) {
+            while (result.hasNext()) {
+                BindingSet bindingSet = result.next();
+                urisAndLabels.computeIfAbsent(bindingSet.getValue(URI).stringValue(), uri -> new ArrayList<>())
+                        .add(bindingSet.getValue(LABEL).stringValue());
+            }
+        }
+
+        return urisAndLabels;
+    }
+
     /**
      * Delete a list of objects into the triplestore.
      *
@@ -589,10 +632,17 @@ public abstract class Rdf4jDAO<T> extends DAO<T> {
         return tupleQuery;
     }
 
+    /**
+     * Prepares an update query, search totals cached by the SPARQL service are
+     * removed once the update is executed.
+     *
+     * @param query
+     * @return the update query
+     */
     public Update prepareRDF4JUpdateQuery(Object query) {
         Update update = getConnection().prepareUpdate(QueryLanguage.SPARQL, query.toString());
         update.setMaxExecutionTime(TIMEOUT);
-        return update;
+        return new CountInvalidatingUpdate(update, sparql);
     }
 
     public BooleanQuery prepareRDF4JBooleanQuery(Object query) {
@@ -654,4 +704,85 @@ public abstract class Rdf4jDAO<T> extends DAO<T> {
         return objectsUpdated;
     }
 
+    /**
+     * Update query removing cached search totals after execution.
+     */
+    private static class CountInvalidatingUpdate implements Update {
+
+        private final Update update;
+
+        private final SPARQLService sparql;
+
+        private CountInvalidatingUpdate(Update update, SPARQLService sparql) {
+            this.update = update;
+            this.sparql = sparql;
+        }
+
+        @Override
+        public void execute() throws UpdateExecutionException {
+            try {
+                update.execute();
+            } finally {
+                sparql.invalidateCountCache();
+            }
+        }
+
+        @Override
+        public void setBinding(String name, Value value) {
+            update.setBinding(name, value);
+        }
+
+        @Override
+        public void removeBinding(String name) {
+            update.removeBinding(name);
+        }
+
+        @Override
+        public void clearBindings() {
+            update.clearBindings();
+        }
+
+        @Override
+        public BindingSet getBindings() {
+            return update.getBindings();
+        }
+
+        @Override
+        public void setDataset(Dataset dataset) {
+            update.setDataset(dataset);
+        }
+
+        @Override
+        public Dataset getDataset() {
+            return update.getDataset();
+        }
+
+        @Override
+        public void setIncludeInferred(boolean includeInferred) {
+            update.setIncludeInferred(includeInferred);
+        }
+
+        @Override
+        public boolean getIncludeInferred() {
+            return update.getIncludeInferred();
+        }
+
+        @Override
+        public void setMaxExecutionTime(int maxExecTime) {
+            update.setMaxExecutionTime(maxExecTime);
+        }
+
+        @Override
+        public int getMaxExecutionTime() {
+            return update.getMaxExecutionTime();
+        }
+
+        /**
+         * @return wrapped update string, logged by DAOs as the update query
+         */
+        @Override
+        public String toString() {
+            return update.toString();
+        }
+    }
 }
@@ -26,6 +26,11 @@ public class FileDescription {
     private List<ConcernedItem> concernedItems;
     private String provenanceUri;
     private Map<String, Object> metadata;
+    /**
+     * SHA-256 checksum of the file content, computed at upload.
+     * Null for files referenced by web path or uploaded before it was stored.
+     */
+    private String checksum;
     
     public String getUri() {
         return uri;
@@ -99,4 +104,12 @@ public class FileDescription {
     public void setWebPath(String webPath) {
         this.webPath = webPath;
     }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
 }
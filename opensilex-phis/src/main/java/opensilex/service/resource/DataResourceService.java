@@ -22,12 +22,14 @@ import opensilex.service.resource.validation.interfaces.Date;
 import opensilex.service.resource.validation.interfaces.Required;
 import opensilex.service.resource.validation.interfaces.URL;
 import opensilex.service.result.ResultForm;
+import opensilex.service.PhisWsModule;
 import opensilex.service.utils.ImageResizer;
 import opensilex.service.utils.POSTResultsReturn;
+import opensilex.service.utils.ByteRange;
+import opensilex.service.utils.ThumbnailStore;
 import opensilex.service.view.brapi.Status;
 import opensilex.service.view.brapi.form.AbstractResultForm;
 import opensilex.service.view.brapi.form.ResponseFormPOST;
-import org.apache.commons.lang3.ArrayUtils;
 import org.glassfish.jersey.media.multipart.FormDataContentDisposition;
 import org.glassfish.jersey.media.multipart.FormDataParam;
 import org.opensilex.fs.service.FileStorageService;
@@ -44,17 +46,28 @@ import javax.validation.constraints.Min;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
+import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.StreamingOutput;
 import java.io.File;
+import java.io.OutputStream;
 import java.net.URI;
+import java.net.URLConnection;
 import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Data resource service.
@@ -71,6 +84,15 @@ public class DataResourceService extends ResourceService {
     @Inject
     private SPARQLService sparql;
 
+    @Inject
+    private PhisWsModule phisModule;
+
+    /**
+     * Default thumbnail size, also generated in background for uploaded pictures
+     */
+    private final static int DEFAULT_THUMBNAIL_WIDTH = 640;
+    private final static int DEFAULT_THUMBNAIL_HEIGHT = 360;
+
     /**
      * Service to insert data.
      *
@@ -303,6 +325,19 @@ public class DataResourceService extends ResourceService {
             if (result.getHttpStatus().equals(Response.Status.CREATED)) {
                 postResponse = new ResponseFormPOST(result.statusList);
                 postResponse.getMetadata().setDatafiles(result.getCreatedResources());
+
+                // Prepare default thumbnail of uploaded pictures
+                String mimeType = URLConnection.guessContentTypeFromName(description.getFilename());
+                ThumbnailStore thumbnailStore = phisModule.getThumbnailStore();
+                if (thumbnailStore != null && mimeType != null && mimeType.startsWith("image/")) {
+                    thumbnailStore.generateInBackground(
+                            description.getUri(),
+                            description.getChecksum(),
+                            Paths.get(description.getPath()),
+                            DEFAULT_THUMBNAIL_WIDTH,
+                            DEFAULT_THUMBNAIL_HEIGHT
+                    );
+                }
             } else if (result.getHttpStatus().equals(Response.Status.BAD_REQUEST)
                     || result.getHttpStatus().equals(Response.Status.OK)
                     || result.getHttpStatus().equals(Response.Status.INTERNAL_SERVER_ERROR)) {
@@ -404,8 +439,11 @@ public class DataResourceService extends ResourceService {
 
     /**
      * Returns the content of the file corresponding to the URI given.
+     * File content is streamed, a single byte range could be requested with
+     * the HTTP Range header.
      *
      * @param fileUri the {@link URI} of the file to download
+     * @param range optional HTTP Range header value (e.g. bytes=0-1023)
      * @return The file content or null with a 404 status if it doesn't exists
      */
     @ApiProtected
@@ -414,15 +452,18 @@ public class DataResourceService extends ResourceService {
     @ApiOperation(value = "Get data file")
     @ApiResponses(value = {
         @ApiResponse(code = 200, message = "Retrieve file"),
+        @ApiResponse(code = 206, message = "Retrieve requested range of file"),
         @ApiResponse(code = 400, message = DocumentationAnnotation.BAD_USER_INFORMATION, response = ErrorResponse.class),
         @ApiResponse(code = 401, message = DocumentationAnnotation.USER_NOT_AUTHORIZED, response = ErrorResponse.class),
         @ApiResponse(code = 404, message = DocumentationAnnotation.FILE_NOT_FOUND, response = ErrorResponse.class),
+        @ApiResponse(code = 416, message = "Requested range not satisfiable"),
         @ApiResponse(code = 500, message = DocumentationAnnotation.ERROR_FETCH_DATA, response = ErrorResponse.class)
     })
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces({MediaType.APPLICATION_OCTET_STREAM})
     public Response getDataFile(
             @ApiParam(value = "Search by fileUri", required = true, example = DocumentationAnnotation.EXAMPLE_DATA_FILE_WEB_PATH) @PathParam("fileUri") @NotNull URI fileUri,
+            @ApiParam(value = "Requested byte range", example = "bytes=0-1023") @HeaderParam("Range") String range,
             @Context HttpServletResponse response
     ) {
         try {
@@ -434,12 +475,47 @@ public class DataResourceService extends ResourceService {
             }
 
             java.nio.file.Path filePath = Paths.get(description.getPath());
-            byte[] fileContent = fs.readFileAsByteArray(filePath);
+            long fileSize = fs.getFileSize(filePath);
 
-            if (ArrayUtils.isEmpty(fileContent)) {
+            if (fileSize == 0) {
                 return Response.status(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode()).build();
             }
-            return Response.ok(fileContent, MediaType.APPLICATION_OCTET_STREAM)
+
+            long start = 0;
+            long end = fileSize - 1;
+            boolean partial = false;
+            // Invalid or multiple ranges headers are ignored and full file is sent
+            ByteRange requestedRange = ByteRange.parse(range, fileSize);
+            if (requestedRange != null) {
+                if (!requestedRange.isSatisfiable()) {
+                    return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode())
+                            .header(CONTENT_RANGE, "bytes */" + fileSize)
+                            .build();
+                }
+                start = requestedRange.getStart();
+                end = requestedRange.getEnd();
+                partial = true;
+            }
+
+            final long offset = start;
+            final long length = end - start + 1;
+            StreamingOutput fileContent = (OutputStream output) -> {
+                fs.copyFileRange(filePath, offset, length, output);
+            };
+
+            Response.ResponseBuilder builder;
+            if (partial) {
+                builder = Response.status(Response.Status.PARTIAL_CONTENT.getStatusCode())
+                        .entity(fileContent)
+                        .type(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileSize);
+            } else {
+                builder = Response.ok(fileContent, MediaType.APPLICATION_OCTET_STREAM);
+            }
+
+            return builder
+                    .header(HttpHeaders.CONTENT_LENGTH, length)
+                    .header(ACCEPT_RANGES, "bytes")
                     .header("Content-Disposition", "attachment; filename=\"" + filePath.getFileName().toString() + "\"") //optional
                     .build();
 
@@ -448,9 +524,25 @@ public class DataResourceService extends ResourceService {
         }
     }
 
+    private final static String CONTENT_RANGE = "Content-Range";
+
+    /**
+     * Thumbnails browser cache duration in seconds
+     */
+    private final static int THUMBNAIL_MAX_AGE = 3600;
+
+    /**
+     * Delay in seconds before retrying a thumbnail request when all resize workers are busy
+     */
+    private final static int THUMBNAIL_RETRY_AFTER = 5;
+
+    private final static String ACCEPT_RANGES = "Accept-Ranges";
+
     /**
      * Returns a thumbnail based on the content of the file corresponding to the URI given.
      * The given URI must link to a picture.
+     * Thumbnails are generated once and kept in file storage, the thumbnail key
+     * is used as entity tag so unchanged thumbnails are not sent again.
      *
      * @param fileUri      the {@link URI} of the file to download
      * @param scaledHeight the height of the thumbnail to return
@@ -463,10 +555,12 @@ public class DataResourceService extends ResourceService {
     @ApiOperation(value = "Get picture thumbnail")
     @ApiResponses(value = {
         @ApiResponse(code = 200, message = "Retrieve thumbnail of a picture"),
+        @ApiResponse(code = 304, message = "Thumbnail not modified"),
         @ApiResponse(code = 400, message = DocumentationAnnotation.BAD_USER_INFORMATION, response = ErrorResponse.class),
         @ApiResponse(code = 401, message = DocumentationAnnotation.USER_NOT_AUTHORIZED, response = ErrorResponse.class),
         @ApiResponse(code = 404, message = DocumentationAnnotation.FILE_NOT_FOUND, response = ErrorResponse.class),
-        @ApiResponse(code = 500, message = DocumentationAnnotation.ERROR_FETCH_DATA, response = ErrorResponse.class)
+        @ApiResponse(code = 500, message = DocumentationAnnotation.ERROR_FETCH_DATA, response = ErrorResponse.class),
+        @ApiResponse(code = 503, message = "Too many thumbnails are being generated")
     })
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces({MediaType.APPLICATION_OCTET_STREAM})
@@ -474,7 +568,8 @@ public class DataResourceService extends ResourceService {
             @ApiParam(value = "Search by fileUri", required = true, example = DocumentationAnnotation.EXAMPLE_DATA_FILE_WEB_PATH) @PathParam("fileUri") @NotNull URI fileUri,
             @ApiParam(value = "Thumbnail width") @QueryParam("scaledWidth") @Min(256) @Max(1920) @DefaultValue("640") Integer scaledWidth,
             @ApiParam(value = "Thumbnail height") @QueryParam("scaledHeight") @Min(144) @Max(1080) @DefaultValue("360") Integer scaledHeight,
-            @Context HttpServletResponse response) throws Exception {
+            @Context HttpServletResponse response,
+            @Context Request request) throws Exception {
 
         FileDescriptionDAO fileDescriptionDAO = new FileDescriptionDAO(sparql);
 
@@ -483,13 +578,47 @@ public class DataResourceService extends ResourceService {
             return Response.status(Response.Status.NOT_FOUND.getStatusCode()).build();
         }
 
-        byte[] imageData = ImageResizer.getInstance().resize(
-                fs.readFileAsByteArray(Paths.get(description.getPath())),
-                scaledWidth,
-                scaledHeight
-        );
+        java.nio.file.Path filePath = Paths.get(description.getPath());
+        ThumbnailStore thumbnailStore = phisModule.getThumbnailStore();
+        if (thumbnailStore == null) {
+            byte[] imageData = ImageResizer.getInstance().resize(
+                    fs.readFileAsByteArray(filePath),
+                    scaledWidth,
+                    scaledHeight
+            );
+
+            return Response.ok(imageData, MediaType.APPLICATION_OCTET_STREAM)
+                    .header("Content-Disposition", "attachment; filename=\"" + description.getFilename() + "\"") //optional
+                    .build();
+        }
+
+        String thumbnailKey = thumbnailStore.getThumbnailKey(fileUri.toString(), description.getChecksum(), scaledWidth, scaledHeight);
+        EntityTag etag = new EntityTag(thumbnailKey);
+
+        CacheControl cc = new CacheControl();
+        cc.setPrivate(true);
+        cc.setMaxAge(THUMBNAIL_MAX_AGE);
+
+        ResponseBuilder builder = request.evaluatePreconditions(etag);
+        if (builder != null) {
+            return builder
+                    .cacheControl(cc)
+                    .tag(etag)
+                    .build();
+        }
+
+        byte[] imageData;
+        try {
+            imageData = thumbnailStore.getThumbnail(thumbnailKey, filePath, scaledWidth, scaledHeight);
+        } catch (RejectedExecutionException ex) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE.getStatusCode())
+                    .header(HttpHeaders.RETRY_AFTER, THUMBNAIL_RETRY_AFTER)
+                    .build();
+        }
 
         return Response.ok(imageData, MediaType.APPLICATION_OCTET_STREAM)
+                .cacheControl(cc)
+                .tag(etag)
                 .header("Content-Disposition", "attachment; filename=\"" + description.getFilename() + "\"") //optional
                 .build();
 
@@ -789,18 +918,24 @@ public class DataResourceService extends ResourceService {
             getResponse = new ResultForm<>(0, 0, list, true, 0);
             return noResultFound(getResponse, statusList);
         } else {
-            // Convert all data object to DTO's
+            // Get missing objects and provenances labels of the page in bulk
+            Set<String> missingObjectsUris = new HashSet<>();
+            Set<String> missingProvenancesUris = new HashSet<>();
             for (Data data : dataList) {
                 if (data.getObjectUri() != null && !objectsUrisAndLabels.containsKey(data.getObjectUri())) {
-                    //We need to get the labels of the object
-                    objectsUrisAndLabels.put(data.getObjectUri(), scientificObjectDAO.findLabelsForUri(data.getObjectUri()));
+                    missingObjectsUris.add(data.getObjectUri());
                 }
-
-                if (!provenancesUrisAndLabels.containsKey(data.getProvenanceUri())) {
-                    //We need to get the label of the provenance
-                    provenancesUrisAndLabels.put(data.getProvenanceUri(), provenanceDAO.findLabelByUri(data.getProvenanceUri()));
+                if (data.getProvenanceUri() != null && !provenancesUrisAndLabels.containsKey(data.getProvenanceUri())) {
+                    missingProvenancesUris.add(data.getProvenanceUri());
                 }
+            }
+
+            LabelResolver labelResolver = new LabelResolver(sparql);
+            objectsUrisAndLabels.putAll(labelResolver.getObjectsLabels(missingObjectsUris));
+            provenancesUrisAndLabels.putAll(labelResolver.getProvenancesLabels(missingProvenancesUris));
 
+            // Convert all data object to DTO's
+            for (Data data : dataList) {
                 //Get provenance label
                 String dataProvenanceLabel = provenancesUrisAndLabels.get(data.getProvenanceUri());
                 //Get object labels
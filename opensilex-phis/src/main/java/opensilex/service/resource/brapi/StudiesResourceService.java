@@ -19,7 +19,10 @@ import java.sql.SQLException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.validation.constraints.Min;
@@ -664,13 +667,20 @@ public class StudiesResourceService extends ResourceService implements BrapiCall
             ExperimentDAO experimentDAO = new ExperimentDAO(sparql);
             ExperimentModel xp = experimentDAO.get(new URI(studyDbId), currentUser);
             if (xp != null) {
-                ArrayList<BrapiObservationUnitDTO> observationUnits = getObservationUnitsResult(scientificObjects, xp);
+                // Only fetch observations of the requested page of observation units
+                List<ScientificObject> pageScientificObjects = scientificObjects;
+                if (limit > 0) {
+                    int fromIndex = Math.min(page * limit, scientificObjects.size());
+                    int toIndex = Math.min(fromIndex + limit, scientificObjects.size());
+                    pageScientificObjects = scientificObjects.subList(fromIndex, toIndex);
+                }
+                ArrayList<BrapiObservationUnitDTO> observationUnits = getObservationUnitsResult(pageScientificObjects, xp);
 
                 if (observationUnits.isEmpty()) {
                     BrapiMultiResponseForm getResponse = new BrapiMultiResponseForm(0, 0, observationUnits, true);
                     return noResultFound(getResponse, statusList);
                 } else {
-                    BrapiMultiResponseForm getResponse = new BrapiMultiResponseForm(limit, page, observationUnits, false);
+                    BrapiMultiResponseForm getResponse = new BrapiMultiResponseForm(limit, page, observationUnits, true, scientificObjects.size());
                     return Response.status(Response.Status.OK).entity(getResponse).build();
                 }
 
@@ -701,7 +711,7 @@ public class StudiesResourceService extends ResourceService implements BrapiCall
     /**
      * Retrieve the response with observations corresponding to the user query (parameters: one specific study and eventually some variables)
      *
-     * @param studyDAO     the study for which we want to retrieve the linked observations
+     * @param studyDbId    the study for which we want to retrieve the linked observations
      * @param variableURIs to filter the observations on a list of variableURIs defined by the user
      * @param limit        pagesize
      * @param page         the page number
@@ -710,11 +720,51 @@ public class StudiesResourceService extends ResourceService implements BrapiCall
     private Response getStudyObservations(String studyDbId, List<String> variableURIs, int limit, int page) {
         ArrayList<Status> statusList = new ArrayList<>();
         try {
-            ArrayList<BrapiObservationDTO> observations = getObservationsList(studyDbId, variableURIs);
+            ScientificObjectRdf4jDAO objectDAO = new ScientificObjectRdf4jDAO(sparql);
+            ArrayList<ScientificObject> objectsList = objectDAO.find(null, null, null, null, studyDbId, null, false);
+
+            ArrayList<BrapiObservationDTO> observations = new ArrayList<>();
+            int totalCount = 0;
+
+            if (!objectsList.isEmpty()) {
+                Map<String, ScientificObject> objectsByUri = new LinkedHashMap<>();
+                for (ScientificObject object : objectsList) {
+                    objectsByUri.put(object.getUri(), object);
+                }
+                List<String> objectsUris = new ArrayList<>(objectsByUri.keySet());
+
+                //SILEX:info
+                // Observations are stored in one collection per variable, so
+                // the requested page is computed from the count of each
+                // variable collection and only the needed documents are read.
+                //\SILEX:info
+                int offset = page * limit;
+                DataDAO dataDAO = new DataDAO(sparql);
+                for (Variable variable : getVariablesList(variableURIs)) {
+                    int variableCount = dataDAO.count(variable.getUri(), null, null, objectsUris, null);
+
+                    boolean pageNotFull = limit <= 0 || observations.size() < limit;
+                    if (pageNotFull && variableCount > 0 && (limit <= 0 || offset < totalCount + variableCount)) {
+                        Integer variableOffset = null;
+                        Integer variableLimit = null;
+                        if (limit > 0) {
+                            variableOffset = Math.max(0, offset - totalCount);
+                            variableLimit = limit - observations.size();
+                        }
+                        List<Data> dataList = dataDAO.findWithOffset(variableOffset, variableLimit, variable.getUri(), null, null, objectsUris, null);
+                        observations.addAll(getObservationsFromData(dataList, variable, objectsByUri));
+                    }
+
+                    totalCount += variableCount;
+                }
+            }
 
             if (observations.isEmpty()) {
                 BrapiMultiResponseForm getResponse = new BrapiMultiResponseForm(0, 0, observations, true);
                 return noResultFound(getResponse, statusList);
+            } else if (limit > 0) {
+                BrapiMultiResponseForm getResponse = new BrapiMultiResponseForm(limit, page, observations, true, totalCount);
+                return Response.status(Response.Status.OK).entity(getResponse).build();
             } else {
                 BrapiMultiResponseForm getResponse = new BrapiMultiResponseForm(limit, page, observations, false);
                 return Response.status(Response.Status.OK).entity(getResponse).build();
@@ -728,21 +778,12 @@ public class StudiesResourceService extends ResourceService implements BrapiCall
     }
 
     /**
-     * Retrieve the observations list corresponding to the user query
+     * Retrieve the variables corresponding to the user query
      *
-     * @param studyDAO     the study for which we want to retrieve the linked observations
      * @param variableURIs to filter the observations on a list of variableURIs defined by the user
-     * @param limit        pagesize
-     * @param page         the page number
-     * @return observations list
+     * @return variables list, all variables if variableURIs is empty
      */
-    private ArrayList<BrapiObservationDTO> getObservationsList(String studyDbId, List<String> variableURIs) throws Exception {
-
-        ArrayList<BrapiObservationDTO> observations = new ArrayList();
-        ScientificObjectRdf4jDAO objectDAO = new ScientificObjectRdf4jDAO(sparql);
-
-        ArrayList<ScientificObject> objectsList = objectDAO.find(null, null, null, null, studyDbId, null, false);
-
+    private ArrayList<Variable> getVariablesList(List<String> variableURIs) throws Exception {
         ArrayList<Variable> variablesList = new ArrayList();
 
         if (variableURIs.isEmpty()) {
@@ -753,8 +794,8 @@ public class StudiesResourceService extends ResourceService implements BrapiCall
         } else {
             //in case a variable uri is duplicated, we keep distinct uris
             List<String> uniqueVariableURIs = variableURIs.stream().distinct().collect(Collectors.toList());
+            VariableDAO variableDAO = new VariableDAO(sparql);
             for (String variableURI : uniqueVariableURIs) {
-                VariableDAO variableDAO = new VariableDAO(sparql);
                 try {
                     Variable variable = variableDAO.findById(variableURI);
                     variablesList.add(variable);
@@ -765,35 +806,23 @@ public class StudiesResourceService extends ResourceService implements BrapiCall
             }
         }
 
-        for (Variable variable : variablesList) {
-            DataDAO dataDAOMongo = new DataDAO(sparql);
-            dataDAOMongo.variableUri = variable.getUri();
-            ArrayList<BrapiObservationDTO> observationsPerVariable = new ArrayList();
-            for (ScientificObject object : objectsList) {
-                dataDAOMongo.objectUri = object.getUri();
-                ArrayList<Data> dataList = dataDAOMongo.allPaginate();
-                ArrayList<BrapiObservationDTO> observationsPerVariableAndObject = getObservationsFromData(dataList, variable, object);
-                observationsPerVariable.addAll(observationsPerVariableAndObject);
-            }
-            observations.addAll(observationsPerVariable);
-        }
-
-        return observations;
+        return variablesList;
     }
 
     /**
      * Fill the observations attributes with Data, Variable and ScientificObject attributes
      *
-     * @param dataList list of data corresponding to the variable and the scientificObject
-     * @param variable variable linked to the dataList
-     * @param object   scientific object linked to the dataList
+     * @param dataList     list of data corresponding to the variable and the scientific objects
+     * @param variable     variable linked to the dataList
+     * @param objectsByUri scientific objects linked to the dataList by uri
      * @return observations list
      */
-    private ArrayList<BrapiObservationDTO> getObservationsFromData(ArrayList<Data> dataList, Variable variable, ScientificObject object) {
+    private ArrayList<BrapiObservationDTO> getObservationsFromData(List<Data> dataList, Variable variable, Map<String, ScientificObject> objectsByUri) {
         SimpleDateFormat df = new SimpleDateFormat(DateFormat.YMDTHMSZ.toString());
         ArrayList<BrapiObservationDTO> observations = new ArrayList();
 
         for (Data data : dataList) {
+            ScientificObject object = objectsByUri.get(data.getObjectUri());
             BrapiObservationDTO observation = new BrapiObservationDTO();
             observation.setObservationUnitDbId(object.getUri());
             observation.setObservationUnitName(object.getLabel());
@@ -817,11 +846,36 @@ public class StudiesResourceService extends ResourceService implements BrapiCall
      * @param experiment        Experiment linked to those scientific objects (user query filter)
      * @return observationUnits list
      */
-    private ArrayList<BrapiObservationUnitDTO> getObservationUnitsResult(ArrayList<ScientificObject> scientificObjects, ExperimentModel experiment) throws Exception {
+    private ArrayList<BrapiObservationUnitDTO> getObservationUnitsResult(List<ScientificObject> scientificObjects, ExperimentModel experiment) throws Exception {
         SimpleDateFormat df = new SimpleDateFormat(DateFormat.YMDTHMSZ.toString());
+        ArrayList<BrapiObservationUnitDTO> observationUnitsList = new ArrayList();
+        if (scientificObjects.isEmpty()) {
+            return observationUnitsList;
+        }
+
+        List<String> objectsUris = new ArrayList<>();
+        Map<String, ArrayList<BrapiObservationSummaryDTO>> observationsByObject = new HashMap<>();
+        for (ScientificObject object : scientificObjects) {
+            objectsUris.add(object.getUri());
+            observationsByObject.put(object.getUri(), new ArrayList<>());
+        }
+
+        //retrieve observations of all the objects with one query per variable
         VariableDAO variableDaoSesame = new VariableDAO(sparql);
         ArrayList<Variable> variablesList = variableDaoSesame.allPaginate();
-        ArrayList<BrapiObservationUnitDTO> observationUnitsList = new ArrayList();
+        DataDAO dataDAOMongo = new DataDAO(sparql);
+        for (Variable variable : variablesList) {
+            List<Data> dataList = dataDAOMongo.findWithOffset(null, null, variable.getUri(), null, null, objectsUris, null);
+            for (Data data : dataList) {
+                BrapiObservationSummaryDTO obs = new BrapiObservationSummaryDTO();
+                obs.setObservationDbId(data.getUri());
+                obs.setObservationTimeStamp(df.format(data.getDate()));
+                obs.setObservationVariableDbId(variable.getUri());
+                obs.setObservationVariableName(variable.getLabel());
+                obs.setValue(data.getValue().toString());
+                observationsByObject.get(data.getObjectUri()).add(obs);
+            }
+        }
 
         for (ScientificObject object : scientificObjects) {
             BrapiObservationUnitDTO unit = new BrapiObservationUnitDTO(object.getUri());
@@ -831,26 +885,7 @@ public class StudiesResourceService extends ResourceService implements BrapiCall
             unit.setObservationUnitName(object.getLabel());
             unit.setStudyDbId(experiment.getUri().toString());
             unit.setStudyName(experiment.getLabel());
-            ArrayList<BrapiObservationSummaryDTO> observationsPerObsUnit = new ArrayList();
-            for (Variable variable : variablesList) {
-                //retrieve observations
-                DataDAO dataDAOMongo = new DataDAO(sparql);
-                ArrayList<BrapiObservationSummaryDTO> observationsPerObjectAndVariable = new ArrayList();
-                dataDAOMongo.objectUri = object.getUri();
-                dataDAOMongo.variableUri = variable.getUri();
-                ArrayList<Data> dataList = dataDAOMongo.allPaginate();
-                for (Data data : dataList) {
-                    BrapiObservationSummaryDTO obs = new BrapiObservationSummaryDTO();
-                    obs.setObservationDbId(data.getUri());
-                    obs.setObservationTimeStamp(df.format(data.getDate()));
-                    obs.setObservationVariableDbId(variable.getUri());
-                    obs.setObservationVariableName(variable.getLabel());
-                    obs.setValue(data.getValue().toString());
-                    observationsPerObjectAndVariable.add(obs);
-                }
-                observationsPerObsUnit.addAll(observationsPerObjectAndVariable);
-            }
-            unit.setObservations(observationsPerObsUnit);
+            unit.setObservations(observationsByObject.get(object.getUri()));
             observationUnitsList.add(unit);
         }
         return observationUnitsList;
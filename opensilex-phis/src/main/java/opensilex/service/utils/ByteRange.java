@@ -0,0 +1,119 @@
+//******************************************************************************
+//                              ByteRange.java
+// SILEX-PHIS
+// Copyright © INRAE 2020
+// Creation date: 17 October 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package opensilex.service.utils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Single byte range requested with an HTTP Range header.
+ *
+ * As stated by RFC 7233, a header which can't be parsed or which asks for
+ * several ranges is ignored and the full content must be sent, only a valid
+ * range starting after the end of the file is not satisfiable.
+ *
+ * @author vincent
+ */
+public class ByteRange {
+
+    private final static Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private final long start;
+
+    private final long end;
+
+    private final boolean satisfiable;
+
+    private ByteRange(long start, long end, boolean satisfiable) {
+        this.start = start;
+        this.end = end;
+        this.satisfiable = satisfiable;
+    }
+
+    /**
+     * Parse a single byte range HTTP header value.
+     *
+     * @param range Range header value
+     * @param fileSize size of the requested file
+     * @example bytes=0-499, bytes=500-, bytes=-500
+     * @return requested range or null if header must be ignored
+     */
+    public static ByteRange parse(String range, long fileSize) {
+        if (range == null) {
+            return null;
+        }
+
+        Matcher matcher = SINGLE_RANGE.matcher(range.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        String first = matcher.group(1);
+        String last = matcher.group(2);
+        try {
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return null;
+                }
+
+                // Suffix range: last N bytes
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength == 0 || fileSize == 0) {
+                    return new ByteRange(0, 0, false);
+                }
+                return new ByteRange(Math.max(0, fileSize - suffixLength), fileSize - 1, true);
+            }
+
+            long start = Long.parseLong(first);
+            long end = fileSize - 1;
+            if (!last.isEmpty()) {
+                long lastPosition = Long.parseLong(last);
+                if (lastPosition < start) {
+                    return null;
+                }
+                end = Math.min(lastPosition, end);
+            }
+
+            if (start >= fileSize) {
+                return new ByteRange(0, 0, false);
+            }
+            return new ByteRange(start, end, true);
+        } catch (NumberFormatException ex) {
+            // Positions too large for a long
+            return null;
+        }
+    }
+
+    /**
+     * @return first byte position
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * @return last byte position, inclusive
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * @return range length in bytes
+     */
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * @return false if range starts after the end of the file
+     */
+    public boolean isSatisfiable() {
+        return satisfiable;
+    }
+}
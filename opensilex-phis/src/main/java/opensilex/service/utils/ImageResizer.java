@@ -123,9 +123,10 @@ public class ImageResizer {
         try {
             srcImagePath = Files.createTempFile(Paths.get(RESIZED_PICTURE_TMP_DIR.toString()), null, null);
 
+            Files.write(srcImagePath, img);
+
             // create tmp file
             scaledImagePath = Files.createTempFile(Paths.get(RESIZED_PICTURE_TMP_DIR.toString()), null, null);
-            Files.write(scaledImagePath, img);
 
             List<String> command = new ArrayList<>();
             command.add(CONVERT_COMMAND);
@@ -0,0 +1,360 @@
+//******************************************************************************
+//                              ThumbnailStore.java
+// SILEX-PHIS
+// Copyright © INRAE 2020
+// Creation date: 25 May 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package opensilex.service.utils;
+
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opensilex.fs.service.FileStorageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Store for pictures thumbnails.
+ *
+ * Thumbnails are identified by the picture URI, the thumbnail size and the
+ * picture version, i.e. its checksum stored at upload, so the key is computed
+ * without reading the picture file and a replaced picture gets new
+ * thumbnails. They are written on local disk in the thumbnails directory of
+ * the storage base path, whatever the storage connection of pictures is.
+ * Thumbnails found in this directory at creation are counted from the oldest
+ * to the newest, and the least recently used ones are deleted when the total
+ * size exceeds the configured budget, including thumbnails of modified
+ * pictures which are no longer requested. Resizing is done by a bounded pool
+ * of workers to limit the number of concurrent image decodings.
+ *
+ * @author vincent
+ */
+public class ThumbnailStore {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(ThumbnailStore.class);
+
+    public final static String THUMBNAIL_DIRECTORY = "thumbnails";
+
+    private final static String THUMBNAIL_EXTENSION = ".jpg";
+
+    private final static String TMP_EXTENSION = ".tmp";
+
+    private final FileStorageService fs;
+
+    private final Path thumbnailDirectory;
+
+    private final long maxSize;
+
+    private final ThreadPoolExecutor resizeExecutor;
+
+    /**
+     * Known thumbnails sizes by key, in access order, guarded by this.
+     */
+    private final LinkedHashMap<String, Long> thumbnails = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long totalSize = 0;
+
+    private final Map<String, Future<byte[]>> pendingThumbnails = new ConcurrentHashMap<>();
+
+    /**
+     * Create thumbnail store.
+     *
+     * @param fs file storage service
+     * @param maxSize maximum total size of stored thumbnails in bytes
+     * @param maxConcurrentResize maximum number of concurrent resizes
+     * @param maxPendingResize maximum number of resizes waiting for a worker
+     * @throws IOException if thumbnails directory can't be created or read
+     */
+    public ThumbnailStore(FileStorageService fs, long maxSize, int maxConcurrentResize, int maxPendingResize) throws IOException {
+        this.fs = fs;
+        this.maxSize = maxSize;
+        this.thumbnailDirectory = fs.getAbsolutePath(Paths.get(THUMBNAIL_DIRECTORY));
+        Files.createDirectories(thumbnailDirectory);
+        loadStoredThumbnails();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        int poolSize = Math.max(1, maxConcurrentResize);
+        this.resizeExecutor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxPendingResize)),
+                (Runnable r) -> {
+                    Thread thread = new Thread(r, "opensilex-thumbnail-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    /**
+     * Compute thumbnail key, also usable as HTTP entity tag.
+     *
+     * @param fileUri picture URI
+     * @param fileVersion picture version written at upload, may be null for
+     * pictures which are never replaced
+     * @param width thumbnail width
+     * @param height thumbnail height
+     * @return thumbnail key
+     */
+    public String getThumbnailKey(String fileUri, String fileVersion, int width, int height) {
+        String key = fileUri
+                + "_" + width + "x" + height
+                + "_" + fileVersion;
+
+        return Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Return thumbnail content, generate it if needed.
+     *
+     * @param thumbnailKey thumbnail key
+     * @param filePath picture file path
+     * @param width thumbnail width
+     * @param height thumbnail height
+     * @return thumbnail content
+     * @throws RejectedExecutionException if too many thumbnails are being
+     * generated
+     * @throws Exception if thumbnail can't be generated
+     */
+    public byte[] getThumbnail(String thumbnailKey, Path filePath, int width, int height) throws Exception {
+        Path thumbnailPath = getThumbnailPath(thumbnailKey);
+        if (Files.exists(thumbnailPath)) {
+            try {
+                byte[] thumbnail = Files.readAllBytes(thumbnailPath);
+                register(thumbnailKey, thumbnail.length);
+                return thumbnail;
+            } catch (NoSuchFileException ex) {
+                // Thumbnail deleted since existence check, generate it again
+            }
+        }
+
+        Future<byte[]> pendingThumbnail = submit(thumbnailKey, filePath, width, height);
+        try {
+            return pendingThumbnail.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof Exception) {
+                throw (Exception) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Generate thumbnail in background if it does not already exist, do
+     * nothing if all workers are busy.
+     *
+     * @param fileUri picture URI
+     * @param fileVersion picture version written at upload
+     * @param filePath picture file path
+     * @param width thumbnail width
+     * @param height thumbnail height
+     */
+    public void generateInBackground(String fileUri, String fileVersion, Path filePath, int width, int height) {
+        try {
+            String thumbnailKey = getThumbnailKey(fileUri, fileVersion, width, height);
+            if (!Files.exists(getThumbnailPath(thumbnailKey))) {
+                submit(thumbnailKey, filePath, width, height);
+            }
+        } catch (RejectedExecutionException ex) {
+            LOGGER.debug("Too many pending thumbnails, skip background generation for: " + fileUri);
+        }
+    }
+
+    /**
+     * Stop resize workers.
+     */
+    public void shutdown() {
+        resizeExecutor.shutdownNow();
+    }
+
+    /**
+     * @return number of resizes running or waiting for a worker
+     */
+    public int getPendingCount() {
+        return pendingThumbnails.size();
+    }
+
+    /**
+     * @return total size of known thumbnails in bytes
+     */
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    private Future<byte[]> submit(String thumbnailKey, Path filePath, int width, int height) {
+        FutureTask<byte[]> task = new FutureTask<>(() -> {
+            return generate(thumbnailKey, filePath, width, height);
+        });
+
+        // Share generation between concurrent requests of the same thumbnail
+        Future<byte[]> pendingThumbnail = pendingThumbnails.putIfAbsent(thumbnailKey, task);
+        if (pendingThumbnail != null) {
+            return pendingThumbnail;
+        }
+
+        try {
+            resizeExecutor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    pendingThumbnails.remove(thumbnailKey, task);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            pendingThumbnails.remove(thumbnailKey, task);
+            throw ex;
+        }
+
+        return task;
+    }
+
+    private byte[] generate(String thumbnailKey, Path filePath, int width, int height) throws Exception {
+        byte[] thumbnail = ImageResizer.getInstance().resize(
+                fs.readFileAsByteArray(filePath),
+                width,
+                height
+        );
+
+        // Temporary file has another extension so it is never loaded as a thumbnail
+        Path tmpFile = Files.createTempFile(thumbnailDirectory, "opensilex_thumbnail", TMP_EXTENSION);
+        try {
+            Files.write(tmpFile, thumbnail);
+            Files.move(tmpFile, getThumbnailPath(thumbnailKey), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            // Thumbnail could still be returned even if it can't be stored
+            LOGGER.warn("Error while storing thumbnail: " + thumbnailKey, ex);
+            return thumbnail;
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+
+        register(thumbnailKey, thumbnail.length);
+        return thumbnail;
+    }
+
+    /**
+     * Count thumbnails stored by previous runs, oldest first so they are the
+     * first ones deleted, and delete temporary files left by interrupted
+     * writes.
+     */
+    private void loadStoredThumbnails() throws IOException {
+        List<StoredThumbnail> storedThumbnails = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(thumbnailDirectory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(THUMBNAIL_EXTENSION)) {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    storedThumbnails.add(new StoredThumbnail(
+                            fileName.substring(0, fileName.length() - THUMBNAIL_EXTENSION.length()),
+                            attributes.size(),
+                            attributes.lastModifiedTime().toMillis()
+                    ));
+                } else if (fileName.endsWith(TMP_EXTENSION)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+
+        storedThumbnails.sort(Comparator.comparingLong(storedThumbnail -> storedThumbnail.lastModified));
+
+        synchronized (this) {
+            for (StoredThumbnail storedThumbnail : storedThumbnails) {
+                thumbnails.put(storedThumbnail.key, storedThumbnail.size);
+                totalSize += storedThumbnail.size;
+            }
+        }
+        LOGGER.debug("Found " + storedThumbnails.size() + " stored thumbnails, total size: " + totalSize);
+
+        deleteAll(evictOverMaxSize(null));
+    }
+
+    private void register(String thumbnailKey, long size) {
+        Map<String, Long> evicted;
+        synchronized (this) {
+            Long previousSize = thumbnails.put(thumbnailKey, size);
+            if (previousSize != null) {
+                totalSize -= previousSize;
+            }
+            totalSize += size;
+
+            evicted = evictOverMaxSize(thumbnailKey);
+        }
+
+        deleteAll(evicted);
+    }
+
+    /**
+     * Remove least recently used thumbnails until total size is in budget,
+     * must be called while holding this lock.
+     *
+     * @param keptKey thumbnail key never removed, may be null
+     * @return removed thumbnails sizes by key
+     */
+    private Map<String, Long> evictOverMaxSize(String keptKey) {
+        Map<String, Long> evicted = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, Long>> iterator = thumbnails.entrySet().iterator();
+        while (totalSize > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (!eldest.getKey().equals(keptKey)) {
+                evicted.put(eldest.getKey(), eldest.getValue());
+                totalSize -= eldest.getValue();
+                iterator.remove();
+            }
+        }
+        return evicted;
+    }
+
+    private void deleteAll(Map<String, Long> evicted) {
+        for (String evictedKey : evicted.keySet()) {
+            try {
+                Files.deleteIfExists(getThumbnailPath(evictedKey));
+            } catch (IOException ex) {
+                LOGGER.warn("Error while deleting thumbnail: " + evictedKey, ex);
+            }
+        }
+    }
+
+    private Path getThumbnailPath(String thumbnailKey) {
+        return thumbnailDirectory.resolve(thumbnailKey + THUMBNAIL_EXTENSION);
+    }
+
+    private static class StoredThumbnail {
+
+        private final String key;
+
+        private final long size;
+
+        private final long lastModified;
+
+        private StoredThumbnail(String key, long size, long lastModified) {
+            this.key = key;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
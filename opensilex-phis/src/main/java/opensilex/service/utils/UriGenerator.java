@@ -736,6 +736,26 @@ public class UriGenerator {
         return encodedString + randomId;
     }
     
+    /**
+     * Generates data uris for the given data keys.
+     * Data uris are built from the hash of the key and a random id, so they
+     * don't need any database access and no existence check is required.
+     * @example http://www.opensilex.org/id/data/1e9eb2fbacc7222d3868ae96149a8a16b32b2a1870c67d753376381ebcbb5937e78da502ee3f42d3828eaa8cab237f93
+     * @param keys the keys of the data
+     * @return the list of uri generated, in the same order as the keys
+     * @throws Exception 
+     */
+    public static List<String> generateDataUris(List<String> keys) throws Exception {
+        String prefix = Contexts.PLATFORM.toString() + "id/data/";
+
+        List<String> dataUris = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            dataUris.add(prefix + getUniqueHash(key));
+        }
+
+        return dataUris;
+    }
+
     /**
      * Generates scientific objects uris for a year. The number depends on the given numberOfUrisToGenerate.
      * @param year
@@ -0,0 +1,142 @@
+//******************************************************************************
+//                             OntologyHierarchyTest.java
+// SILEX-PHIS
+// Copyright © INRAE 2020
+// Creation date: 17 October 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package opensilex.service.dao;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+import org.apache.jena.arq.querybuilder.AskBuilder;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensilex.integration.test.AbstractIntegrationTest;
+import org.opensilex.sparql.service.SPARQLResult;
+import org.opensilex.sparql.service.SPARQLService;
+import org.opensilex.sparql.service.SPARQLServiceFactory;
+import org.opensilex.sparql.utils.Ontology;
+
+/**
+ * Tests that the in memory classes hierarchy gives the same results as the
+ * rdfs:subClassOf queries it replaces.
+ *
+ * @author vincent
+ */
+public class OntologyHierarchyTest extends AbstractIntegrationTest {
+
+    private final static String OESO = "http://www.opensilex.org/vocabulary/oeso#";
+
+    private final static String UNKNOWN_CLASS = "http://test.opensilex.org/ontology-test#Unknown";
+
+    private final static List<String> CLASSES = Arrays.asList(
+            OESO + "Device",
+            OESO + "SensingDevice",
+            OESO + "Camera",
+            OESO + "HemisphericalCamera",
+            OESO + "ScientificObject",
+            UNKNOWN_CLASS
+    );
+
+    private SPARQLServiceFactory factory;
+
+    private SPARQLService sparql;
+
+    private OntologyHierarchy hierarchy;
+
+    @Before
+    public void createHierarchy() throws Exception {
+        factory = getOpensilex().getServiceInstance(SPARQLService.DEFAULT_SPARQL_SERVICE, SPARQLServiceFactory.class);
+        sparql = factory.provide();
+        OntologyHierarchy.invalidate();
+        hierarchy = new OntologyHierarchy(sparql);
+    }
+
+    @After
+    public void disposeSparql() throws Exception {
+        factory.dispose(sparql);
+    }
+
+    private Set<String> select(Node subject, Object predicate, Node object, Var resultVar) throws Exception {
+        SelectBuilder select = new SelectBuilder();
+        select.setDistinct(true);
+        select.addVar(resultVar);
+        select.addWhere(subject, predicate, object);
+
+        Set<String> results = new LinkedHashSet<>();
+        for (SPARQLResult result : sparql.executeSelectQuery(select)) {
+            results.add(result.getStringValue(resultVar.getVarName()));
+        }
+        return results;
+    }
+
+    @Test
+    public void testIsSubClassOf() throws Exception {
+        assertTrue(hierarchy.isSubClassOf(OESO + "HemisphericalCamera", OESO + "Device"));
+
+        for (String subClass : CLASSES) {
+            for (String parentClass : CLASSES) {
+                AskBuilder ask = new AskBuilder();
+                ask.addWhere(NodeFactory.createURI(subClass), Ontology.subClassAny, NodeFactory.createURI(parentClass));
+
+                assertEquals(subClass + " subClassOf " + parentClass,
+                        sparql.executeAskQuery(ask),
+                        hierarchy.isSubClassOf(subClass, parentClass));
+            }
+        }
+    }
+
+    @Test
+    public void testGetDescendants() throws Exception {
+        Var classVar = SelectBuilder.makeVar("class");
+        for (String classUri : CLASSES) {
+            Set<String> expected = select(classVar, Ontology.subClassAny, NodeFactory.createURI(classUri), classVar);
+
+            Set<String> descendants = new LinkedHashSet<>();
+            descendants.add(classUri);
+            descendants.addAll(hierarchy.getDescendants(classUri));
+
+            assertEquals(classUri, expected, descendants);
+        }
+    }
+
+    @Test
+    public void testGetSiblings() throws Exception {
+        Var classVar = SelectBuilder.makeVar("class");
+        Var parentVar = SelectBuilder.makeVar("parent");
+        for (String classUri : CLASSES) {
+            SelectBuilder select = new SelectBuilder();
+            select.setDistinct(true);
+            select.addVar(classVar);
+            select.addWhere(NodeFactory.createURI(classUri), RDFS.subClassOf, parentVar);
+            select.addWhere(classVar, RDFS.subClassOf, parentVar);
+
+            Set<String> expected = new LinkedHashSet<>();
+            for (SPARQLResult result : sparql.executeSelectQuery(select)) {
+                expected.add(result.getStringValue(classVar.getVarName()));
+            }
+
+            assertEquals(classUri, expected, hierarchy.getSiblings(classUri));
+        }
+    }
+
+    @Test
+    public void testGetParents() throws Exception {
+        Var parentVar = SelectBuilder.makeVar("parent");
+        for (String classUri : CLASSES) {
+            Set<String> expected = select(NodeFactory.createURI(classUri), RDFS.subClassOf, parentVar, parentVar);
+            assertEquals(classUri, expected, hierarchy.getParents(classUri));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+//******************************************************************************
+//                             ByteRangeTest.java
+// SILEX-PHIS
+// Copyright © INRAE 2020
+// Creation date: 17 October 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package opensilex.service.utils;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for HTTP Range header parsing.
+ */
+public class ByteRangeTest {
+
+    private final static long FILE_SIZE = 1000;
+
+    private static void assertRange(String header, long start, long end) {
+        ByteRange range = ByteRange.parse(header, FILE_SIZE);
+        assertTrue(header, range.isSatisfiable());
+        assertEquals(header, start, range.getStart());
+        assertEquals(header, end, range.getEnd());
+        assertEquals(header, end - start + 1, range.getLength());
+    }
+
+    @Test
+    public void testSingleRange() {
+        assertRange("bytes=0-499", 0, 499);
+        assertRange("bytes=500-999", 500, 999);
+        assertRange("bytes=0-0", 0, 0);
+        // Last position after the end of the file is truncated
+        assertRange("bytes=900-5000", 900, 999);
+    }
+
+    @Test
+    public void testSuffixRange() {
+        assertRange("bytes=-100", 900, 999);
+        // Suffix longer than the file selects the whole file
+        assertRange("bytes=-5000", 0, 999);
+    }
+
+    @Test
+    public void testOpenEndedRange() {
+        assertRange("bytes=500-", 500, 999);
+        assertRange("bytes=0-", 0, 999);
+    }
+
+    @Test
+    public void testUnsatisfiableRange() {
+        assertFalse(ByteRange.parse("bytes=1000-", FILE_SIZE).isSatisfiable());
+        assertFalse(ByteRange.parse("bytes=1500-2000", FILE_SIZE).isSatisfiable());
+        assertFalse(ByteRange.parse("bytes=-0", FILE_SIZE).isSatisfiable());
+    }
+
+    @Test
+    public void testMultipleRangesAreIgnored() {
+        assertNull(ByteRange.parse("bytes=0-99,200-299", FILE_SIZE));
+        assertNull(ByteRange.parse("bytes=0-99, -100", FILE_SIZE));
+    }
+
+    @Test
+    public void testMalformedRangesAreIgnored() {
+        assertNull(ByteRange.parse(null, FILE_SIZE));
+        assertNull(ByteRange.parse("", FILE_SIZE));
+        assertNull(ByteRange.parse("bytes=", FILE_SIZE));
+        assertNull(ByteRange.parse("bytes=-", FILE_SIZE));
+        assertNull(ByteRange.parse("items=0-99", FILE_SIZE));
+        assertNull(ByteRange.parse("bytes=a-b", FILE_SIZE));
+        assertNull(ByteRange.parse("bytes=500-400", FILE_SIZE));
+        assertNull(ByteRange.parse("bytes=-5-10", FILE_SIZE));
+        assertNull(ByteRange.parse("bytes=99999999999999999999-", FILE_SIZE));
+    }
+}
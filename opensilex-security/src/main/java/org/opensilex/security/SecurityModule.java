@@ -26,6 +26,7 @@ import org.opensilex.security.authentication.injection.CurrentUser;
 import org.opensilex.security.authentication.injection.CurrentUserFactory;
 import org.opensilex.security.authentication.injection.CurrentUserResolver;
 import org.opensilex.security.extensions.LoginExtension;
+import org.opensilex.security.extensions.UserAccessExtension;
 import org.opensilex.security.group.dal.GroupDAO;
 import org.opensilex.security.user.dal.UserDAO;
 import org.opensilex.security.user.dal.UserModel;
@@ -169,6 +170,22 @@ public class SecurityModule extends OpenSilexModule implements APIExtension, Log
         }).in(Singleton.class);
     }
 
+    /**
+     * Notify modules implementing {@link UserAccessExtension} that access
+     * rights of the given users may have changed.
+     *
+     * @param usersURIs users URIs
+     * @throws Exception in case of error
+     */
+    public void usersAccessChanged(Collection<URI> usersURIs) throws Exception {
+        if (usersURIs.isEmpty()) {
+            return;
+        }
+        for (UserAccessExtension module : getOpenSilex().getModulesImplementingInterface(UserAccessExtension.class)) {
+            module.usersAccessChanged(usersURIs);
+        }
+    }
+
     @Override
     public void inMemoryInitialization() throws Exception {
         createDefaultSuperAdmin();
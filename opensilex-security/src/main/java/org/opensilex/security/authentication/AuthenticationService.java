@@ -16,18 +16,29 @@ import com.auth0.jwt.impl.PublicClaims;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.ws.rs.core.SecurityContext;
 import org.opensilex.security.SecurityConfig;
 import org.opensilex.security.SecurityModule;
@@ -50,7 +61,8 @@ import org.opensilex.service.BaseService;
  * For details see: https://github.com/patrickfav/bcrypt
  *
  * Logged in users are registred in a concurrent map with their token
- * and automatically unregistred after token expiration.
+ * and automatically unregistred after token expiration by a single shared
+ * scheduler thread.
  *
  * For existing claim ids, see: https://www.iana.org/assignments/jwt/jwt.xhtml#claims
  * </pre>
@@ -157,15 +169,45 @@ public class AuthenticationService extends BaseService implements Service {
     private ConcurrentHashMap<URI, UserModel> userRegistry = new ConcurrentHashMap<>();
 
     /**
-     * Auto-logout thread map by users
+     * Auto-logout task map by users
      */
-    private ConcurrentHashMap<URI, Thread> schedulerRegistry = new ConcurrentHashMap<>();
+    private ConcurrentHashMap<URI, ScheduledFuture<?>> schedulerRegistry = new ConcurrentHashMap<>();
+
+    /**
+     * Single scheduler thread for all auto-logout tasks
+     */
+    private final ScheduledThreadPoolExecutor expirationScheduler;
 
     /**
      * RSA encryption algorithm for JWT token generation
      */
     private final Algorithm algoRSA;
 
+    /**
+     * JWT token verifier, thread safe and shared for all verifications
+     */
+    private final JWTVerifier verifier;
+
+    /**
+     * Maximum number of verified tokens kept in cache
+     */
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10000;
+
+    /**
+     * Verified tokens cache by token hash, entries expire with their token
+     */
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedTokenCache = new ConcurrentHashMap<>();
+
+    /**
+     * Verified tokens cache hit counter
+     */
+    private final AtomicLong verifiedTokenCacheHits = new AtomicLong();
+
+    /**
+     * Verified tokens cache miss counter
+     */
+    private final AtomicLong verifiedTokenCacheMisses = new AtomicLong();
+
     /**
      * Constructor initializing a new RSA key pair for JWT token generation
      *
@@ -179,6 +221,23 @@ public class AuthenticationService extends BaseService implements Service {
         RSAPublicKey publicKey = (RSAPublicKey) kp.getPublic();
         RSAPrivateKey privateKey = (RSAPrivateKey) kp.getPrivate();
         algoRSA = Algorithm.RSA512(publicKey, privateKey);
+        verifier = JWT.require(algoRSA)
+                .withIssuer(TOKEN_ISSUER)
+                .build();
+
+        expirationScheduler = new ScheduledThreadPoolExecutor(1, (Runnable r) -> {
+            Thread t = new Thread(r, "opensilex-session-expiration");
+            t.setDaemon(true);
+            return t;
+        });
+        expirationScheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public void shutdown() throws Exception {
+        expirationScheduler.shutdownNow();
+        schedulerRegistry.clear();
+        userRegistry.clear();
     }
 
     /**
@@ -263,10 +322,7 @@ public class AuthenticationService extends BaseService implements Service {
         if (user.getToken() != null) {
 
             // Check and decode current user token
-            JWTVerifier verifier = JWT.require(algoRSA)
-                    .withIssuer(TOKEN_ISSUER)
-                    .build();
-            DecodedJWT jwt = verifier.verify(user.getToken());
+            DecodedJWT jwt = getVerifiedToken(user.getToken()).jwt;
 
             // Create a new token
             JWTCreator.Builder tokenBuilder = JWT.create();
@@ -323,13 +379,12 @@ public class AuthenticationService extends BaseService implements Service {
      * @throws URISyntaxException In case of invalid user URI in token (should never happend)
      */
     public URI decodeTokenUserURI(String tokenValue) throws JWTVerificationException, URISyntaxException {
-        JWTVerifier verifier = JWT.require(algoRSA)
-                .withIssuer(TOKEN_ISSUER)
-                .build();
-
-        DecodedJWT jwt = verifier.verify(tokenValue);
+        VerifiedToken verifiedToken = getVerifiedToken(tokenValue);
+        if (verifiedToken.userURI == null) {
+            throw new URISyntaxException(String.valueOf(verifiedToken.jwt.getSubject()), "Invalid user URI in token");
+        }
 
-        return new URI(jwt.getSubject());
+        return verifiedToken.userURI;
     }
 
     /**
@@ -339,22 +394,126 @@ public class AuthenticationService extends BaseService implements Service {
      * @return credentials id list
      */
     public String[] decodeTokenCredentialsList(String tokenValue) {
-        JWTVerifier verifier = JWT.require(algoRSA)
-                .withIssuer(TOKEN_ISSUER)
-                .build();
-
-        DecodedJWT jwt = verifier.verify(tokenValue);
+        Set<String> credentials = getVerifiedToken(tokenValue).credentials;
+        return credentials.toArray(new String[credentials.size()]);
+    }
 
-        return jwt.getClaim(CLAIM_CREDENTIALS_LIST).asArray(String.class);
+    /**
+     * Check if a token contains the given credential
+     *
+     * @param tokenValue JWT token string
+     * @param credentialId credential id to check
+     * @return true if credential is in token credentials list
+     * @throws JWTVerificationException In case of token validation error
+     */
+    public boolean hasCredential(String tokenValue, String credentialId) throws JWTVerificationException {
+        return getVerifiedToken(tokenValue).credentials.contains(credentialId);
     }
 
     public String[] decodeStringArrayClaim(String token, String key) {
+        return getVerifiedToken(token).jwt.getClaim(key).asArray(String.class);
+    }
 
-        return JWT.require(algoRSA)
-                .withIssuer(TOKEN_ISSUER)
-                .build()
-                .verify(token)
-                .getClaim(key).asArray(String.class);
+    /**
+     * Return verified and decoded token from cache or verify it and store it
+     * in cache until its expiration date.
+     *
+     * @param tokenValue JWT token string
+     * @return verified token
+     * @throws JWTVerificationException In case of token validation error
+     */
+    private VerifiedToken getVerifiedToken(String tokenValue) throws JWTVerificationException {
+        String tokenHash = getTokenHash(tokenValue);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken verifiedToken = verifiedTokenCache.get(tokenHash);
+        if (verifiedToken != null) {
+            if (verifiedToken.expiresAt > now) {
+                verifiedTokenCacheHits.incrementAndGet();
+                return verifiedToken;
+            }
+            verifiedTokenCache.remove(tokenHash, verifiedToken);
+        }
+
+        verifiedTokenCacheMisses.incrementAndGet();
+        verifiedToken = new VerifiedToken(verifier.verify(tokenValue));
+
+        if (verifiedTokenCache.size() >= VERIFIED_TOKEN_CACHE_SIZE) {
+            verifiedTokenCache.values().removeIf(cachedToken -> cachedToken.expiresAt <= now);
+            if (verifiedTokenCache.size() >= VERIFIED_TOKEN_CACHE_SIZE) {
+                verifiedTokenCache.clear();
+            }
+        }
+        verifiedTokenCache.put(tokenHash, verifiedToken);
+
+        return verifiedToken;
+    }
+
+    private static String getTokenHash(String tokenValue) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(tokenValue.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            // SHA-256 is always available in Java platform
+            return tokenValue;
+        }
+    }
+
+    /**
+     * Return verified tokens cache hit count
+     *
+     * @return cache hit count
+     */
+    public long getVerifiedTokenCacheHits() {
+        return verifiedTokenCacheHits.get();
+    }
+
+    /**
+     * Return verified tokens cache miss count
+     *
+     * @return cache miss count
+     */
+    public long getVerifiedTokenCacheMisses() {
+        return verifiedTokenCacheMisses.get();
+    }
+
+    /**
+     * Decoded claims of a verified token
+     */
+    private static class VerifiedToken {
+
+        private final DecodedJWT jwt;
+
+        private final URI userURI;
+
+        private final Set<String> credentials;
+
+        private final long expiresAt;
+
+        private VerifiedToken(DecodedJWT jwt) {
+            this.jwt = jwt;
+
+            URI subjectURI;
+            try {
+                subjectURI = new URI(jwt.getSubject());
+            } catch (URISyntaxException | NullPointerException ex) {
+                subjectURI = null;
+            }
+            this.userURI = subjectURI;
+
+            String[] credentialsList = jwt.getClaim(CLAIM_CREDENTIALS_LIST).asArray(String.class);
+            if (credentialsList != null) {
+                this.credentials = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(credentialsList)));
+            } else {
+                this.credentials = Collections.emptySet();
+            }
+
+            if (jwt.getExpiresAt() != null) {
+                this.expiresAt = jwt.getExpiresAt().getTime();
+            } else {
+                this.expiresAt = System.currentTimeMillis() + TOKEN_VALIDITY_DURATION_UNIT.getDuration().toMillis() * TOKEN_VALIDITY_DURATION;
+            }
+        }
     }
 
     /**
@@ -391,12 +550,12 @@ public class AuthenticationService extends BaseService implements Service {
      * @param user User to check
      * @return true if user is authenticated, false otherwise
      */
-    public synchronized boolean hasUser(UserModel user) {
+    public boolean hasUser(UserModel user) {
         return hasUserURI(user.getUri());
     }
 
     /**
-     * Add a user with an authentication delay. Create a thread per user which just sleep until delay is expired.
+     * Add a user with an authentication delay. Schedule user removal on shared scheduler when delay is expired.
      *
      * @param user Userto add
      * @param expireMs authentication delay in milliseconds
@@ -410,25 +569,22 @@ public class AuthenticationService extends BaseService implements Service {
             removeUserByURI(userURI);
         }
 
-        // Create thread to remove user after expire time
-        Thread t = new Thread(() -> {
+        // Add user into concurrent map registry
+        userRegistry.put(userURI, user);
+
+        // Schedule task to remove user after expire time
+        ScheduledFuture<?> expiration = expirationScheduler.schedule(() -> {
             try {
-                Thread.sleep(expireMs);
                 LOGGER.debug("User connection timeout: " + userURI);
                 removeUser(user);
-            } catch (InterruptedException ex) {
-                LOGGER.debug("Revoke user: " + userURI + " - " + ex.getMessage());
             } catch (Exception ex) {
                 LOGGER.warn("Error while removing user: " + userURI + " - ", ex);
             }
-        });
-
-        // Start thread
-        t.start();
-
-        // Add user and logout thread into concurrent map registry
-        userRegistry.put(userURI, user);
-        schedulerRegistry.put(userURI, t);
+        }, expireMs, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previousExpiration = schedulerRegistry.put(userURI, expiration);
+        if (previousExpiration != null) {
+            previousExpiration.cancel(false);
+        }
 
         LOGGER.debug("User registered: " + userURI);
     }
@@ -455,8 +611,10 @@ public class AuthenticationService extends BaseService implements Service {
         boolean allowMultiConnection = getOpenSilex().getModuleConfig(SecurityModule.class, SecurityConfig.class).allowMultiConnection();
         if (!allowMultiConnection && hasUserURI(userURI)) {
             LOGGER.debug("Unregister user: " + userURI);
-            schedulerRegistry.get(userURI).interrupt();
-            schedulerRegistry.remove(userURI);
+            ScheduledFuture<?> expiration = schedulerRegistry.remove(userURI);
+            if (expiration != null) {
+                expiration.cancel(false);
+            }
 
             UserModel user = userRegistry.remove(userURI);
 
@@ -477,7 +635,7 @@ public class AuthenticationService extends BaseService implements Service {
      * @param userURI User URI to check
      * @return true if user is registred false otherwise
      */
-    public synchronized boolean hasUserURI(URI userURI) {
+    public boolean hasUserURI(URI userURI) {
         return userRegistry.containsKey(userURI);
     }
 
@@ -487,10 +645,28 @@ public class AuthenticationService extends BaseService implements Service {
      * @param userURI User URI to get
      * @return registred user or null
      */
-    public synchronized UserModel getUserByUri(URI userURI) {
+    public UserModel getUserByUri(URI userURI) {
         return userRegistry.get(userURI);
     }
 
+    /**
+     * Return number of registred users
+     *
+     * @return active session count
+     */
+    public int getActiveSessionCount() {
+        return userRegistry.size();
+    }
+
+    /**
+     * Return number of pending auto-logout tasks
+     *
+     * @return expiration backlog size
+     */
+    public int getExpirationBacklog() {
+        return expirationScheduler.getQueue().size();
+    }
+
     public boolean authenticate(UserModel user, String password, List<String> accessList) throws Exception {
         if ((user != null && checkPassword(password, user.getPasswordHash()))) {
             generateToken(user, accessList);
@@ -9,7 +9,6 @@ package org.opensilex.security.authentication.filters;
 import org.opensilex.security.authentication.AuthenticationService;
 import java.io.IOException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.ws.rs.Priorities;
@@ -99,11 +98,8 @@ public class CredentialFilter implements ContainerRequestFilter {
                     if (credentialId != null) {
                         // Get current API service credential
 
-                        // Get user credentials from token
-                        String[] accessList = authentication.decodeTokenCredentialsList(user.getToken());
-
-                        // Check user credential existence
-                        hasCredential = Arrays.stream(accessList).anyMatch(credentialId::equals);
+                        // Check user credential existence in token
+                        hasCredential = authentication.hasCredential(user.getToken(), credentialId);
                     } else {
                         // If no specific credential, user logged in is sufficient
                         hasCredential = true;
@@ -0,0 +1,32 @@
+//******************************************************************************
+//                          UserAccessExtension.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.security.extensions;
+
+import java.net.URI;
+import java.util.Collection;
+import org.opensilex.OpenSilexExtension;
+
+/**
+ * Extension interface for OpenSilex modules which keep informations about
+ * users access rights and need to be notified when groups or users are
+ * modified.
+ *
+ * @author Vincent Migot
+ */
+public interface UserAccessExtension extends OpenSilexExtension {
+
+    /**
+     * Called when groups membership or users are modified. Do nothing by
+     * default.
+     *
+     * @param usersURIs URIs of the users whose access rights may have changed
+     * @throws Exception in case of error
+     */
+    public default void usersAccessChanged(Collection<URI> usersURIs) throws Exception {
+
+    }
+}
@@ -12,7 +12,9 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
@@ -31,6 +33,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.opensilex.security.group.dal.GroupDAO;
 import org.opensilex.security.group.dal.GroupModel;
+import org.opensilex.security.group.dal.GroupUserProfileModel;
 import org.opensilex.security.SecurityModule;
 import org.opensilex.security.authentication.ApiCredential;
 import org.opensilex.security.authentication.ApiCredentialGroup;
@@ -72,6 +75,9 @@ public class GroupAPI {
     @Inject
     private SPARQLService sparql;
 
+    @Inject
+    private SecurityModule securityModule;
+
     /**
      * Create a group and return it's URI
      *
@@ -120,6 +126,7 @@ public class GroupAPI {
 
         // create new group
         GroupModel group = dao.create(dto.newModel());
+        securityModule.usersAccessChanged(getGroupsUsers(group));
 
         // return group URI
         return new ObjectUriResponse(Response.Status.CREATED, group.getUri()).getResponse();
@@ -149,8 +156,12 @@ public class GroupAPI {
 
         Response response;
         if (model != null) {
+            // Members must be read before update to include removed ones
+            Set<URI> usersURIs = getGroupsUsers(model);
             GroupModel group = dto.newModel();
             group = dao.update(group);
+            usersURIs.addAll(getGroupsUsers(group));
+            securityModule.usersAccessChanged(usersURIs);
 
             response = new ObjectUriResponse(Response.Status.OK, group.getUri()).getResponse();
         } else {
@@ -181,7 +192,11 @@ public class GroupAPI {
             @ValidURI URI uri
     ) throws Exception {
         GroupDAO dao = new GroupDAO(sparql);
+        GroupModel model = dao.get(uri);
+        // Members must be read before their profiles are deleted with the group
+        Set<URI> usersURIs = model != null ? getGroupsUsers(model) : new HashSet<>();
         dao.delete(uri);
+        securityModule.usersAccessChanged(usersURIs);
         Response response = new ObjectUriResponse(Response.Status.OK, uri).getResponse();
 
         return response;
@@ -338,4 +353,18 @@ public class GroupAPI {
             ).getResponse();
         }
     }
+
+    private static Set<URI> getGroupsUsers(GroupModel... groups) {
+        Set<URI> usersURIs = new HashSet<>();
+        for (GroupModel group : groups) {
+            if (group.getUserProfiles() != null) {
+                for (GroupUserProfileModel userProfile : group.getUserProfiles()) {
+                    if (userProfile.getUser() != null) {
+                        usersURIs.add(userProfile.getUser().getUri());
+                    }
+                }
+            }
+        }
+        return usersURIs;
+    }
 }
@@ -13,6 +13,7 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import javax.inject.Inject;
 import javax.mail.internet.InternetAddress;
@@ -101,6 +102,9 @@ public class UserAPI {
     @Inject
     private AuthenticationService authentication;
 
+    @Inject
+    private SecurityModule securityModule;
+
     /**
      * Create a user and return it's URI
      *
@@ -348,6 +352,7 @@ public class UserAPI {
                     authentication.getPasswordHash(dto.getPassword()),
                     dto.getLanguage()
             );
+            securityModule.usersAccessChanged(Collections.singletonList(user.getUri()));
 
             return new ObjectUriResponse(Response.Status.OK, user.getUri()).getResponse();
         } else {
@@ -374,6 +379,7 @@ public class UserAPI {
     ) throws Exception {
         UserDAO dao = new UserDAO(sparql);
         dao.delete(uri);
+        securityModule.usersAccessChanged(Collections.singletonList(uri));
         return new ObjectUriResponse(Response.Status.OK, uri).getResponse();
     }
 
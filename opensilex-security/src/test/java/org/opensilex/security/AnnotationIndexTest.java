@@ -0,0 +1,94 @@
+//******************************************************************************
+//                          AnnotationIndexTest.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.security;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.ws.rs.Path;
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNotNull;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opensilex.security.authentication.ApiCredential;
+import org.opensilex.utils.AnnotationIndex;
+import org.opensilex.utils.ClassUtils;
+import org.reflections.Reflections;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ConfigurationBuilder;
+
+/**
+ * Check that annotation index lookups on security module return the same
+ * results as Reflections, from build time index file and from classes scan.
+ *
+ * @author Vincent Migot
+ */
+public class AnnotationIndexTest {
+
+    private static File location;
+
+    private static Reflections reflections;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        location = ClassUtils.getJarFile(ApiCredential.class).getCanonicalFile();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        reflections = new Reflections(new ConfigurationBuilder()
+                .addClassLoader(classLoader)
+                .setUrls(location.toURI().toURL())
+                .setScanners(new TypeAnnotationsScanner(), new SubTypesScanner(), new MethodAnnotationsScanner())
+                .setExpandSuperTypes(false)
+        );
+    }
+
+    private static void assertSameResults(AnnotationIndex index) throws Exception {
+        assertNotNull(index);
+
+        Set<Class<?>> expectedTypes = filterModuleTypes(reflections.getTypesAnnotatedWith(Path.class));
+        assertFalse(expectedTypes.isEmpty());
+        assertEquals(expectedTypes, filterModuleTypes(index.getTypesAnnotatedWith(Path.class)));
+
+        Set<Method> expectedMethods = filterModuleMethods(reflections.getMethodsAnnotatedWith(ApiCredential.class));
+        assertFalse(expectedMethods.isEmpty());
+        assertEquals(expectedMethods, filterModuleMethods(index.getMethodsAnnotatedWith(ApiCredential.class)));
+    }
+
+    /**
+     * Index may contain classes of other modules on test classpath.
+     */
+    private static Set<Class<?>> filterModuleTypes(Set<Class<?>> classes) {
+        return classes.stream().filter(AnnotationIndexTest::isInModule).collect(Collectors.toSet());
+    }
+
+    private static Set<Method> filterModuleMethods(Set<Method> methods) {
+        return methods.stream().filter(m -> isInModule(m.getDeclaringClass())).collect(Collectors.toSet());
+    }
+
+    private static boolean isInModule(Class<?> c) {
+        try {
+            return location.equals(ClassUtils.getJarFile(c).getCanonicalFile());
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    @Test
+    public void testIndexFile() throws Exception {
+        assertSameResults(AnnotationIndex.load(Collections.singleton(location), Thread.currentThread().getContextClassLoader()));
+    }
+
+    @Test
+    public void testScannedIndex() throws Exception {
+        assertSameResults(AnnotationIndex.scan(Collections.singleton(location), Thread.currentThread().getContextClassLoader()));
+    }
+}
@@ -96,6 +96,9 @@ public class SPARQLModule extends OpenSilexModule {
         } catch (Exception ex) {
             sparql.rollbackTransaction();
             throw ex;
+        } finally {
+            // Ontology based caches may have been built during the transaction
+            SPARQLService.updateOntologyVersion();
         }
     }
 
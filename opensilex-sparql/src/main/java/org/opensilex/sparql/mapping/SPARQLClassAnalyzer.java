@@ -103,6 +103,18 @@ final class SPARQLClassAnalyzer {
 
     private final boolean allowBlankNode;
 
+    private final Map<String, SPARQLFieldBinder> bindersByField = new HashMap<>();
+
+    private final List<SPARQLFieldBinder> dataPropertyBinders = new ArrayList<>();
+
+    private final List<SPARQLFieldBinder> objectPropertyBinders = new ArrayList<>();
+
+    private final List<SPARQLFieldBinder> labelPropertyBinders = new ArrayList<>();
+
+    private final List<SPARQLFieldBinder> dataListPropertyBinders = new ArrayList<>();
+
+    private final List<SPARQLFieldBinder> objectListPropertyBinders = new ArrayList<>();
+
     @SuppressWarnings("unchecked")
     public SPARQLClassAnalyzer(SPARQLClassObjectMapperIndex mapperIndex, Class<?> objectClass) throws SPARQLInvalidClassDefinitionException {
         LOGGER.debug("Start SPARQL model class analyze for: " + objectClass.getName());
@@ -261,6 +273,39 @@ final class SPARQLClassAnalyzer {
                 throw new SPARQLInvalidClassDefinitionException(objectClass, "no setter found for the field: " + field.getName());
             }
         }
+
+        LOGGER.debug("Init fields binders for: " + objectClass.getName());
+        initFieldsBinders();
+    }
+
+    private void initFieldsBinders() throws SPARQLInvalidClassDefinitionException {
+        for (Field field : fieldsByName.values()) {
+            Method getter = getGetterFromField(field);
+            Method setter = getSetterFromField(field);
+            if (getter != null && setter != null) {
+                try {
+                    SPARQLFieldBinder binder = new SPARQLFieldBinder(field, getter, setter, propertiesByField.get(field.getName()), isReverseRelation(field));
+                    bindersByField.put(field.getName(), binder);
+                } catch (IllegalAccessException | SecurityException ex) {
+                    throw new SPARQLInvalidClassDefinitionException(objectClass, "Technical error while accessing field: " + field.getName(), ex);
+                }
+            }
+        }
+
+        addBinders(dataProperties.keySet(), dataPropertyBinders);
+        addBinders(objectProperties.keySet(), objectPropertyBinders);
+        addBinders(labelProperties.keySet(), labelPropertyBinders);
+        addBinders(dataPropertiesLists.keySet(), dataListPropertyBinders);
+        addBinders(objectPropertiesLists.keySet(), objectListPropertyBinders);
+    }
+
+    private void addBinders(Set<String> fieldNames, List<SPARQLFieldBinder> binders) {
+        for (String fieldName : fieldNames) {
+            SPARQLFieldBinder binder = bindersByField.get(fieldName);
+            if (binder != null) {
+                binders.add(binder);
+            }
+        }
     }
 
     public boolean hasValidation() {
@@ -544,6 +589,10 @@ final class SPARQLClassAnalyzer {
 
     public Object getFieldValue(Field field, Object instance) {
         try {
+            SPARQLFieldBinder binder = bindersByField.get(field.getName());
+            if (binder != null && objectClass.isInstance(instance)) {
+                return binder.getValue(instance);
+            }
             return instance.getClass().getMethod(fieldsByGetter.inverse().get(field.getName()).getName()).invoke(instance);
         } catch (Exception ex) {
             return null;
@@ -677,13 +726,41 @@ final class SPARQLClassAnalyzer {
 
     public void setURI(Object instance, URI uri) throws Exception {
         try {
-            getSetterFromField(getURIField()).invoke(instance, uri);
+            getFieldBinder(getURIField()).setValue(instance, uri);
         } catch (IllegalArgumentException | IllegalAccessException ex) {
             LOGGER.error("Error while setting object uri", ex);
             throw ex;
         }
     }
 
+    /**
+     * @param field model field
+     * @return precomputed field accessors or null if field is not mapped
+     */
+    public SPARQLFieldBinder getFieldBinder(Field field) {
+        return bindersByField.get(field.getName());
+    }
+
+    public List<SPARQLFieldBinder> getDataPropertyBinders() {
+        return Collections.unmodifiableList(dataPropertyBinders);
+    }
+
+    public List<SPARQLFieldBinder> getObjectPropertyBinders() {
+        return Collections.unmodifiableList(objectPropertyBinders);
+    }
+
+    public List<SPARQLFieldBinder> getLabelPropertyBinders() {
+        return Collections.unmodifiableList(labelPropertyBinders);
+    }
+
+    public List<SPARQLFieldBinder> getDataListPropertyBinders() {
+        return Collections.unmodifiableList(dataListPropertyBinders);
+    }
+
+    public List<SPARQLFieldBinder> getObjectListPropertyBinders() {
+        return Collections.unmodifiableList(objectListPropertyBinders);
+    }
+
     public URIGenerator<? extends SPARQLResourceModel> getUriGenerator() {
         return uriGenerator;
     }
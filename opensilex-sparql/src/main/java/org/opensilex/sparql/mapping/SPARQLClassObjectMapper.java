@@ -21,6 +21,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.jena.arq.querybuilder.AskBuilder;
 import org.apache.jena.arq.querybuilder.SelectBuilder;
 import org.apache.jena.arq.querybuilder.UpdateBuilder;
@@ -60,6 +61,22 @@ public class SPARQLClassObjectMapper<T extends SPARQLResourceModel> {
     protected SPARQLClassQueryBuilder classQueryBuilder;
     protected SPARQLClassAnalyzer classAnalizer;
 
+    /**
+     * Precomputed fields accessors used to create instances from SPARQL
+     * results.
+     */
+    private SPARQLDeserializer<URI> uriDeserializer;
+    private SPARQLFieldBinder uriBinder;
+    private List<SPARQLFieldBinder> dataPropertyBinders;
+    private List<SPARQLFieldBinder> objectPropertyBinders;
+    private List<SPARQLFieldBinder> labelPropertyBinders;
+    private List<SPARQLFieldBinder> dataListPropertyBinders;
+    private List<SPARQLFieldBinder> objectListPropertyBinders;
+    private Set<Property> managedProperties;
+
+    private final static int MAX_CACHED_TYPES = 1000;
+    private final Map<String, URI> typesURIs = new ConcurrentHashMap<>();
+
     protected SPARQLClassObjectMapper(Class<T> objectClass, URI baseGraphURI, SPARQLClassObjectMapperIndex mapperIndex) {
         LOGGER.debug("Initialize SPARQL ressource class object mapper for: " + objectClass.getName());
         this.objectClass = objectClass;
@@ -81,6 +98,15 @@ public class SPARQLClassObjectMapper<T extends SPARQLResourceModel> {
 
             LOGGER.debug("Init SPARQL class query builder: " + objectClass.getName());
             classQueryBuilder = new SPARQLClassQueryBuilder(mapperIndex, classAnalizer);
+
+            uriDeserializer = SPARQLDeserializers.getForClass(URI.class);
+            uriBinder = classAnalizer.getFieldBinder(classAnalizer.getURIField());
+            dataPropertyBinders = classAnalizer.getDataPropertyBinders();
+            objectPropertyBinders = classAnalizer.getObjectPropertyBinders();
+            labelPropertyBinders = classAnalizer.getLabelPropertyBinders();
+            dataListPropertyBinders = classAnalizer.getDataListPropertyBinders();
+            objectListPropertyBinders = classAnalizer.getObjectListPropertyBinders();
+            managedProperties = classAnalizer.getManagedProperties();
         } catch (SPARQLInvalidClassDefinitionException ex) {
             throw ex;
         } catch (Throwable t) {
@@ -127,14 +153,11 @@ public class SPARQLClassObjectMapper<T extends SPARQLResourceModel> {
 
     @SuppressWarnings("unchecked")
     public T createInstance(Node graph, SPARQLResult result, String lang, SPARQLService service) throws Exception {
-
-        SPARQLDeserializer<URI> uriDeserializer = SPARQLDeserializers.getForClass(URI.class
-        );
         URI uri = uriDeserializer.fromString((result.getStringValue(classAnalizer.getURIFieldName())));
 
         T instance = createInstance(uri);
 
-        URI realType = new URI(result.getStringValue(getTypeFieldName()));
+        URI realType = getTypeURI(result.getStringValue(getTypeFieldName()));
         instance.setType(SPARQLDeserializers.formatURI(realType));
 
         String typeLabelFieldName = getTypeLabelFieldName();
@@ -145,92 +168,192 @@ public class SPARQLClassObjectMapper<T extends SPARQLResourceModel> {
         SPARQLProxyLabel proxyLabel = new SPARQLProxyLabel(mapperIndex, null, realTypeLabel, realType, RDFS.label, false, lang, service);
         instance.setTypeLabel(proxyLabel.getInstance());
 
-        for (Field field : classAnalizer.getDataPropertyFields()) {
-            Method setter = classAnalizer.getSetterFromField(field);
-
-            String strValue = result.getStringValue(field.getName());
+        for (SPARQLFieldBinder binder : dataPropertyBinders) {
+            String strValue = result.getStringValue(binder.getName());
 
             if (strValue != null) {
-                if (SPARQLDeserializers.existsForClass(field.getType())) {
-                    Object objValue = SPARQLDeserializers.getForClass(field.getType()).fromString(strValue);
-                    setter.invoke(instance, objValue);
-                } else {
-                    //TODO change exception type
-                    throw new Exception("No deserializer for field: " + field.getName());
-                }
+                binder.deserializeValue(instance, strValue);
             }
-
         }
 
-        for (Field field : classAnalizer.getObjectPropertyFields()) {
-            Method setter = classAnalizer.getSetterFromField(field);
-            if (result.getStringValue(field.getName()) != null) {
-                URI objURI = uriDeserializer.fromString(result.getStringValue(field.getName()));
+        for (SPARQLFieldBinder binder : objectPropertyBinders) {
+            String strValue = result.getStringValue(binder.getName());
+            if (strValue != null) {
+                URI objURI = uriDeserializer.fromString(strValue);
 
-                Class<? extends SPARQLResourceModel> fieldType = (Class<? extends SPARQLResourceModel>) field.getType();
+                Class<? extends SPARQLResourceModel> fieldType = (Class<? extends SPARQLResourceModel>) binder.getValueType();
                 Node propertyGraph = graph;
-                if (classAnalizer.isReverseRelation(field)) {
+                if (binder.isReverseRelation()) {
                     propertyGraph = mapperIndex.getForClass(fieldType).getDefaultGraph();
                 }
 
                 SPARQLProxyResource<?> proxy;
-                if(SPARQLNamedResourceModel.class.isAssignableFrom(fieldType)){
-                    String fieldNameVar = SPARQLClassQueryBuilder.getObjectNameVarName(field.getName());
-                    String name = result.getStringValue(fieldNameVar);
+                if (binder.isNamedResource()) {
+                    String name = result.getStringValue(SPARQLClassQueryBuilder.getObjectNameVarName(binder.getName()));
 
-                    if(StringUtils.isEmpty(name)){
-                        name = result.getStringValue(SPARQLClassQueryBuilder.getObjectDefaultNameVarName(field.getName()));
+                    if (StringUtils.isEmpty(name)) {
+                        name = result.getStringValue(SPARQLClassQueryBuilder.getObjectDefaultNameVarName(binder.getName()));
                     }
-                    proxy = new SparqlProxyNamedResource(mapperIndex,propertyGraph,objURI,fieldType,name,lang,service);
-                }else{
+                    proxy = new SparqlProxyNamedResource(mapperIndex, propertyGraph, objURI, fieldType, name, lang, service);
+                } else {
                     proxy = new SPARQLProxyResource<>(mapperIndex, propertyGraph, objURI, fieldType, lang, service);
                 }
-                setter.invoke(instance, proxy.getInstance());
+                binder.setValue(instance, proxy.getInstance());
             }
         }
 
-        for (Field field : classAnalizer.getLabelPropertyFields()) {
-            Method setter = classAnalizer.getSetterFromField(field);
-
-            String strValue = result.getStringValue(field.getName());
+        for (SPARQLFieldBinder binder : labelPropertyBinders) {
+            String strValue = result.getStringValue(binder.getName());
 
             if (strValue != null) {
-                SPARQLProxyLabel proxy = new SPARQLProxyLabel(mapperIndex, graph, strValue, uri, classAnalizer.getLabelPropertyByField(field), classAnalizer.isReverseRelation(field), lang, service);
-                setter.invoke(instance, proxy.getInstance());
+                SPARQLProxyLabel proxy = new SPARQLProxyLabel(mapperIndex, graph, strValue, uri, binder.getProperty(), binder.isReverseRelation(), lang, service);
+                binder.setValue(instance, proxy.getInstance());
             }
+        }
 
+        for (SPARQLFieldBinder binder : dataListPropertyBinders) {
+            SPARQLProxyListData<?> proxy = new SPARQLProxyListData<>(mapperIndex, graph, uri, binder.getProperty(), binder.getValueType(), binder.isReverseRelation(), lang, service);
+            binder.setValue(instance, proxy.getInstance());
         }
 
-        for (Field field : classAnalizer.getDataListPropertyFields()) {
-            Method setter = classAnalizer.getSetterFromField(field);
+        for (SPARQLFieldBinder binder : objectListPropertyBinders) {
+            Class<? extends SPARQLResourceModel> model = (Class<? extends SPARQLResourceModel>) binder.getValueType();
+            Node propertyGraph = graph;
+            if (binder.isReverseRelation()) {
+                propertyGraph = mapperIndex.getForClass(model).getDefaultGraph();
+            }
+            SPARQLProxyListObject<? extends SPARQLResourceModel> proxy = new SPARQLProxyListObject<>(mapperIndex, propertyGraph, uri, binder.getProperty(), model, binder.isReverseRelation(), lang, service);
+            binder.setValue(instance, proxy.getInstance());
+        }
 
-            SPARQLProxyListData<?> proxy = new SPARQLProxyListData<>(mapperIndex, graph, uri, classAnalizer.getDataListPropertyByField(field), ClassUtils.getGenericTypeFromField(field), classAnalizer.isReverseRelation(field), lang, service);
-            setter.invoke(instance, proxy.getInstance());
+        instance.setRelations(new SPARQLProxyRelationList(mapperIndex, null, uri, managedProperties, lang, service).getInstance());
+        return instance;
+    }
+
+    /**
+     * Parse RDF type URI, types are shared by many results so parsed URIs are
+     * kept.
+     */
+    private URI getTypeURI(String type) {
+        URI typeURI = typesURIs.get(type);
+        if (typeURI == null) {
+            typeURI = URI.create(type);
+            if (typesURIs.size() < MAX_CACHED_TYPES) {
+                typesURIs.put(type, typeURI);
+            }
         }
+        return typeURI;
+    }
+
+    /**
+     * Load list fields of all given instances with one query per field
+     * instead of one lazy query per instance and field.
+     *
+     * @param instances instances to load list fields for
+     * @param fieldNames names of list fields to load
+     * @param lang language
+     * @param service SPARQL service
+     * @throws Exception if loading fails or a field is not a list field
+     */
+    @SuppressWarnings("unchecked")
+    public void fetchListFields(List<T> instances, Collection<String> fieldNames, String lang, SPARQLService service) throws Exception {
+        if (instances == null || instances.isEmpty() || fieldNames == null || fieldNames.isEmpty()) {
+            return;
+        }
+
+        Map<URI, T> instancesByURI = new HashMap<>();
+        for (T instance : instances) {
+            instancesByURI.put(SPARQLDeserializers.formatURI(getURI(instance)), instance);
+        }
+        Collection<Node> uriNodes = SPARQLDeserializers.nodeListURI(instancesByURI.keySet());
+
+        for (String fieldName : fieldNames) {
+            Field field = classAnalizer.getFieldFromName(fieldName);
+            Map<URI, List<Object>> valuesByURI;
+            if (field != null && classAnalizer.isDataListField(field)) {
+                valuesByURI = fetchDataListField(field, uriNodes, service);
+            } else if (field != null && classAnalizer.isObjectListField(field)) {
+                valuesByURI = fetchObjectListField(field, uriNodes, lang, service);
+            } else {
+                throw new SPARQLUnknownFieldException(objectClass, fieldName, null);
+            }
 
-        for (Field field : classAnalizer.getObjectListPropertyFields()) {
             Method setter = classAnalizer.getSetterFromField(field);
+            for (Map.Entry<URI, T> entry : instancesByURI.entrySet()) {
+                List<Object> values = valuesByURI.get(entry.getKey());
+                if (values == null) {
+                    values = new ArrayList<>();
+                }
+                setter.invoke(entry.getValue(), values);
+            }
+        }
+    }
 
-            Class<? extends SPARQLResourceModel> model = (Class<? extends SPARQLResourceModel>) ClassUtils.getGenericTypeFromField(field);
-            Node propertyGraph = graph;
-            if (classAnalizer.isReverseRelation(field)) {
-                propertyGraph = mapperIndex.getForClass(model).getDefaultGraph();
+    private static final String FETCH_PARENT_VAR = "_fetchParent";
+
+    private Map<URI, List<Object>> fetchDataListField(Field field, Collection<Node> uriNodes, SPARQLService service) throws Exception {
+        Property property = classAnalizer.getDataListPropertyByField(field);
+        SPARQLDeserializer<?> deserializer = SPARQLDeserializers.getForClass(ClassUtils.getGenericTypeFromField(field));
+
+        SelectBuilder select = new SelectBuilder();
+        Var parentVar = makeVar(FETCH_PARENT_VAR);
+        Var valueVar = makeVar("value");
+        select.addVar(parentVar);
+        select.addVar(valueVar);
+
+        if (classAnalizer.isReverseRelation(field)) {
+            select.addWhere(valueVar, property, parentVar);
+        } else {
+            select.addWhere(parentVar, property, valueVar);
+        }
+        select.addWhereValueVar(parentVar, uriNodes.toArray());
+
+        Map<URI, List<Object>> valuesByURI = new HashMap<>();
+        for (SPARQLResult result : service.executeSelectQuery(select)) {
+            String strValue = result.getStringValue("value");
+            try {
+                URI parentURI = SPARQLDeserializers.formatURI(new URI(result.getStringValue(FETCH_PARENT_VAR)));
+                valuesByURI.computeIfAbsent(parentURI, (key) -> new ArrayList<>()).add(deserializer.fromString(strValue));
+            } catch (Exception ex) {
+                LOGGER.warn("Error while parsing SPARQL result, result will be ignored: " + strValue, ex);
             }
-            SPARQLProxyListObject<? extends SPARQLResourceModel> proxy = new SPARQLProxyListObject<>(mapperIndex, propertyGraph, uri, classAnalizer.getObjectListPropertyByField(field), model, classAnalizer.isReverseRelation(field), lang, service);
-            setter.invoke(instance, proxy.getInstance());
         }
 
-        Set<Property> properties = classAnalizer.getManagedProperties();
-        instance.setRelations(new SPARQLProxyRelationList(mapperIndex, null, uri, properties, lang, service).getInstance());
-        return instance;
+        return valuesByURI;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<URI, List<Object>> fetchObjectListField(Field field, Collection<Node> uriNodes, String lang, SPARQLService service) throws Exception {
+        Property property = classAnalizer.getObjectListPropertyByField(field);
+        Class<? extends SPARQLResourceModel> model = (Class<? extends SPARQLResourceModel>) ClassUtils.getGenericTypeFromField(field);
+        SPARQLClassObjectMapper<SPARQLResourceModel> modelMapper = mapperIndex.getForClass(model);
+        Node modelGraph = modelMapper.getDefaultGraph();
+
+        SelectBuilder select = modelMapper.getSelectBuilder(modelGraph, lang);
+        Var parentVar = makeVar(FETCH_PARENT_VAR);
+        select.addVar(parentVar);
+
+        if (classAnalizer.isReverseRelation(field)) {
+            select.addWhere(modelMapper.getURIFieldVar(), property, parentVar);
+        } else {
+            select.addWhere(parentVar, property, modelMapper.getURIFieldVar());
+        }
+        select.addWhereValueVar(parentVar, uriNodes.toArray());
+
+        Map<URI, List<Object>> valuesByURI = new HashMap<>();
+        for (SPARQLResult result : service.executeSelectQuery(select)) {
+            URI parentURI = SPARQLDeserializers.formatURI(new URI(result.getStringValue(FETCH_PARENT_VAR)));
+            valuesByURI.computeIfAbsent(parentURI, (key) -> new ArrayList<>()).add(modelMapper.createInstance(modelGraph, result, lang, service));
+        }
+
+        return valuesByURI;
     }
 
     public T createInstance(URI uri) throws Exception {
         T instance = constructor.newInstance();
 
         if (uri != null) {
-            Method uriSetter = classAnalizer.getSetterFromField(classAnalizer.getURIField());
-            uriSetter.invoke(instance, uri);
+            uriBinder.setValue(instance, uri);
         }
 
         return instance;
@@ -29,10 +29,12 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 import org.apache.jena.datatypes.xsd.XSDDatatype;
@@ -63,6 +65,19 @@ class SPARQLClassQueryBuilder {
 
     private final SPARQLClassObjectMapperIndex mapperIndex;
 
+    /**
+     * Base queries templates by graph and language, built once and cloned for
+     * each call because class definition never change at runtime.
+     */
+    private final Map<List<Object>, SelectBuilder> selectTemplates = new ConcurrentHashMap<>();
+
+    private final Map<List<Object>, AskBuilder> askTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * Count queries templates by graph, language and count field name.
+     */
+    private final Map<List<Object>, SelectBuilder> countTemplates = new ConcurrentHashMap<>();
+
     public SPARQLClassQueryBuilder(SPARQLClassObjectMapperIndex mapperIndex, SPARQLClassAnalyzer analyzer) {
         this.analyzer = analyzer;
         this.mapperIndex = mapperIndex;
@@ -86,7 +101,21 @@ class SPARQLClassQueryBuilder {
         return "_" + objectFieldName + "_name_default";
     }
 
+    /**
+     * Return a new select query for the class, filters, order and pagination
+     * could be freely added to it.
+     *
+     * @param graph graph to query in
+     * @param lang language used to filter labels
+     * @return select query builder
+     */
     public SelectBuilder getSelectBuilder(Node graph, String lang) {
+        return selectTemplates.computeIfAbsent(Arrays.asList(graph, lang), key -> {
+            return buildSelectBuilder(graph, lang);
+        }).clone();
+    }
+
+    private SelectBuilder buildSelectBuilder(Node graph, String lang) {
         SelectBuilder selectBuilder = new SelectBuilder();
         selectBuilder.setDistinct(true);
 
@@ -110,7 +139,20 @@ class SPARQLClassQueryBuilder {
         return selectBuilder;
     }
 
+    /**
+     * Return a new ask query for the class.
+     *
+     * @param graph graph to query in
+     * @param lang language used to filter labels
+     * @return ask query builder
+     */
     public AskBuilder getAskBuilder(Node graph, String lang) {
+        return askTemplates.computeIfAbsent(Arrays.asList(graph, lang), key -> {
+            return buildAskBuilder(graph, lang);
+        }).clone();
+    }
+
+    private AskBuilder buildAskBuilder(Node graph, String lang) {
         AskBuilder askBuilder = new AskBuilder();
         initializeQueryBuilder(askBuilder, graph, lang, analyzer.allowBlankNode());
         return askBuilder;
@@ -178,7 +220,21 @@ class SPARQLClassQueryBuilder {
 
     }
 
+    /**
+     * Return a new count query for the class.
+     *
+     * @param graph graph to query in
+     * @param countFieldName name of the count result variable
+     * @param lang language used to filter labels
+     * @return count query builder
+     */
     public SelectBuilder getCountBuilder(Node graph, String countFieldName, String lang) {
+        return countTemplates.computeIfAbsent(Arrays.asList(graph, lang, countFieldName), key -> {
+            return buildCountBuilder(graph, countFieldName, lang);
+        }).clone();
+    }
+
+    private SelectBuilder buildCountBuilder(Node graph, String countFieldName, String lang) {
         String uriFieldName = analyzer.getURIFieldName();
 
         SelectBuilder countBuilder = new SelectBuilder();
@@ -0,0 +1,155 @@
+//******************************************************************************
+//                          SPARQLFieldBinder.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.sparql.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import org.apache.jena.rdf.model.Property;
+import org.opensilex.sparql.deserializer.SPARQLDeserializer;
+import org.opensilex.sparql.deserializer.SPARQLDeserializers;
+import org.opensilex.sparql.model.SPARQLNamedResourceModel;
+import org.opensilex.utils.ClassUtils;
+
+/**
+ * Precomputed accessors of a SPARQL model field.
+ *
+ * Getter and setter are resolved once as method handles and the deserializer
+ * of the field value type is looked up at class analysis, so instances
+ * hydration from SPARQL results does not need any reflection lookup.
+ *
+ * @author Vincent Migot
+ */
+public class SPARQLFieldBinder {
+
+    private final static MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final static MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+
+    private final Property property;
+
+    private final boolean reverseRelation;
+
+    private final Class<?> valueType;
+
+    private final SPARQLDeserializer<?> deserializer;
+
+    private final boolean namedResource;
+
+    private final MethodHandle getter;
+
+    private final MethodHandle setter;
+
+    SPARQLFieldBinder(Field field, Method getter, Method setter, Property property, boolean reverseRelation) throws IllegalAccessException {
+        this.field = field;
+        this.property = property;
+        this.reverseRelation = reverseRelation;
+
+        if (List.class.isAssignableFrom(field.getType())) {
+            this.valueType = ClassUtils.getGenericTypeFromField(field);
+        } else {
+            this.valueType = field.getType();
+        }
+
+        SPARQLDeserializer<?> valueDeserializer = null;
+        if (valueType != null && SPARQLDeserializers.existsForClass(valueType)) {
+            try {
+                valueDeserializer = SPARQLDeserializers.getForClass(valueType);
+            } catch (Exception ex) {
+                valueDeserializer = null;
+            }
+        }
+        this.deserializer = valueDeserializer;
+        this.namedResource = valueType != null && SPARQLNamedResourceModel.class.isAssignableFrom(valueType);
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        getter.setAccessible(true);
+        setter.setAccessible(true);
+        this.getter = lookup.unreflect(getter).asType(GETTER_TYPE);
+        this.setter = lookup.unreflect(setter).asType(SETTER_TYPE);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public String getName() {
+        return field.getName();
+    }
+
+    /**
+     * @return field RDF property or null for URI and type fields
+     */
+    public Property getProperty() {
+        return property;
+    }
+
+    public boolean isReverseRelation() {
+        return reverseRelation;
+    }
+
+    /**
+     * @return field type or generic type for list fields
+     */
+    public Class<?> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * @return true if value type is a named resource model
+     */
+    public boolean isNamedResource() {
+        return namedResource;
+    }
+
+    /**
+     * @return deserializer for value type or null if none exists
+     */
+    public SPARQLDeserializer<?> getDeserializer() {
+        return deserializer;
+    }
+
+    public Object getValue(Object instance) throws Exception {
+        try {
+            return getter.invokeExact(instance);
+        } catch (Exception | Error ex) {
+            throw ex;
+        } catch (Throwable t) {
+            throw new Exception(t);
+        }
+    }
+
+    public void setValue(Object instance, Object value) throws Exception {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Exception | Error ex) {
+            throw ex;
+        } catch (Throwable t) {
+            throw new Exception(t);
+        }
+    }
+
+    /**
+     * Deserialize a SPARQL result value and set it on instance.
+     *
+     * @param instance instance to update
+     * @param value SPARQL result string value
+     * @throws Exception if field has no deserializer or value can't be parsed
+     */
+    public void deserializeValue(Object instance, String value) throws Exception {
+        if (deserializer == null) {
+            //TODO change exception type
+            throw new Exception("No deserializer for field: " + field.getName());
+        }
+        setValue(instance, deserializer.fromString(value));
+    }
+}
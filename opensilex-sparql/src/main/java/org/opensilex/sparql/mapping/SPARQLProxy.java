@@ -7,11 +7,7 @@ package org.opensilex.sparql.mapping;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.implementation.InvocationHandlerAdapter;
-import net.bytebuddy.matcher.ElementMatchers;
 import org.apache.jena.graph.*;
-import org.opensilex.OpenSilex;
 import org.opensilex.sparql.service.SPARQLService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,17 +36,8 @@ abstract class SPARQLProxy<T> implements InvocationHandler {
     protected T instance;
 
     public T getInstance() {
-        Class<? extends T> proxy = new ByteBuddy()
-                .subclass(type)
-                .implement(SPARQLProxyMarker.class)
-                .method(ElementMatchers.any())
-                .intercept(InvocationHandlerAdapter.of(this))
-                .make()
-                .load(OpenSilex.getClassLoader())
-                .getLoaded();
-
         try {
-            return proxy.getConstructor().newInstance();
+            return SPARQLProxyClassFactory.newInstance(type, this);
         } catch (Exception ex) {
             LOGGER.error("Error while creating SPARQL proxy class (should never happend)", ex);
         }
@@ -0,0 +1,124 @@
+//******************************************************************************
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRA 2019
+// Contact: vincent.migot@inra.fr, anne.tireau@inra.fr, pascal.neveu@inra.fr
+//******************************************************************************
+package org.opensilex.sparql.mapping;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.opensilex.OpenSilex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory for SPARQL proxy classes.
+ *
+ * A single proxy class is generated and loaded for each proxied type, then
+ * kept in cache. Generated classes delegate every call to an
+ * {@link InvocationHandler} stored in an instance field, so creating a new
+ * proxy only costs one object allocation and does not load any new class.
+ *
+ * @author vincent
+ */
+public final class SPARQLProxyClassFactory {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(SPARQLProxyClassFactory.class);
+
+    /**
+     * Name of the generated field holding proxy invocation handler.
+     */
+    private final static String HANDLER_FIELD = "sparqlProxyHandler";
+
+    private final static Map<Class<?>, Constructor<?>> proxyConstructors = new ConcurrentHashMap<>();
+
+    private final static AtomicLong cacheHitCount = new AtomicLong();
+
+    private final static AtomicLong generatedClassCount = new AtomicLong();
+
+    private SPARQLProxyClassFactory() {
+    }
+
+    /**
+     * Interface implemented by all generated proxy classes to bind their
+     * invocation handler.
+     */
+    public static interface HandlerAccessor {
+
+        public void setSparqlProxyHandler(InvocationHandler handler);
+
+    }
+
+    /**
+     * Create a new proxy instance of the given type delegating all calls to
+     * the given handler.
+     *
+     * @param <T> proxied type
+     * @param type proxied type
+     * @param handler invocation handler of this proxy instance
+     * @return new proxy instance
+     * @throws Exception if proxy class can't be generated or instanciated
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T newInstance(Class<T> type, InvocationHandler handler) throws Exception {
+        Constructor<?> constructor = proxyConstructors.get(type);
+        if (constructor == null) {
+            constructor = proxyConstructors.computeIfAbsent(type, SPARQLProxyClassFactory::generateProxyConstructor);
+        } else {
+            cacheHitCount.incrementAndGet();
+        }
+
+        T instance = (T) constructor.newInstance();
+        ((HandlerAccessor) instance).setSparqlProxyHandler(handler);
+
+        return instance;
+    }
+
+    private static Constructor<?> generateProxyConstructor(Class<?> type) {
+        LOGGER.debug("Generate SPARQL proxy class for: " + type.getName());
+
+        Class<?> proxyClass = new ByteBuddy()
+                .subclass(type)
+                .implement(SPARQLProxyMarker.class)
+                .defineField(HANDLER_FIELD, InvocationHandler.class, Modifier.PRIVATE)
+                .method(ElementMatchers.any())
+                .intercept(InvocationHandlerAdapter.toField(HANDLER_FIELD))
+                .implement(HandlerAccessor.class)
+                .intercept(FieldAccessor.ofField(HANDLER_FIELD))
+                .make()
+                .load(OpenSilex.getClassLoader())
+                .getLoaded();
+
+        generatedClassCount.incrementAndGet();
+
+        try {
+            return proxyClass.getConstructor();
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException("No default constructor for SPARQL proxy class: " + type.getName(), ex);
+        }
+    }
+
+    /**
+     * @return number of proxy instances created with an already generated
+     * class
+     */
+    public static long getCacheHitCount() {
+        return cacheHitCount.get();
+    }
+
+    /**
+     * @return number of proxy classes generated since startup
+     */
+    public static long getGeneratedClassCount() {
+        return generatedClassCount.get();
+    }
+
+}
@@ -38,6 +38,10 @@ public class SPARQLTreeListModel<T extends SPARQLTreeModel<T>> {
         this.excludeRoot = excludeRoot;
     }
 
+    public SPARQLTreeListModel(URI root, boolean excludeRoot) {
+        this(new ArrayList<>(), root, excludeRoot);
+    }
+
     public void listRoots(Consumer<T> handler) {
         this.listChildren(null, handler);
     }
@@ -96,6 +100,16 @@ public class SPARQLTreeListModel<T extends SPARQLTreeModel<T>> {
         }
     }
 
+    /**
+     * Add the given instance to the selection and to the tree.
+     *
+     * @param candidate selected instance
+     */
+    public void addSelection(T candidate) {
+        selectionList.add(candidate.getUri());
+        addTree(candidate);
+    }
+
     public boolean isSelected(T candidate) {
         return this.selectionList.contains(candidate.getUri());
     }
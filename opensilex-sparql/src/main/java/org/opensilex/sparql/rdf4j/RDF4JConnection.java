@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.apache.jena.arq.querybuilder.AskBuilder;
 import org.apache.jena.arq.querybuilder.ConstructBuilder;
 import org.apache.jena.arq.querybuilder.DescribeBuilder;
@@ -154,6 +155,27 @@ public class RDF4JConnection extends BaseService implements SPARQLConnection {
         }
     }
 
+    @Override
+    public Stream<SPARQLResult> executeSelectQueryAsStream(SelectBuilder select) throws SPARQLException {
+        try {
+            TupleQuery selectQuery = rdf4JConnection.prepareTupleQuery(QueryLanguage.SPARQL, select.buildString());
+            if (getTimeout() > 0) {
+                selectQuery.setMaxExecutionTime(getTimeout());
+            }
+            TupleQueryResult results = selectQuery.evaluate();
+
+            // Closing the stream closes the underlying query result
+            return QueryResults.stream(results).<SPARQLResult>map(RDF4JResult::new);
+        } catch (RepositoryException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof ShaclSailValidationException) {
+                throw convertRDF4JSHACLException((ShaclSailValidationException) cause);
+            } else {
+                throw new SPARQLException(ex.getMessage());
+            }
+        }
+    }
+
     @Override
     public void executeUpdateQuery(UpdateBuilder update) throws SPARQLException {
         try {
@@ -328,16 +350,20 @@ public class RDF4JConnection extends BaseService implements SPARQLConnection {
     private List<SPARQLResult> bindingSetsToSPARQLResultList(QueryResult<BindingSet> queryResults, Consumer<SPARQLResult> resultHandler) {
         List<SPARQLResult> resultList = new ArrayList<>();
 
-        while (queryResults.hasNext()) {
-            RDF4JResult result = new RDF4JResult(queryResults.next());
-            if (resultHandler != null) {
-                resultHandler.accept(result);
+        try {
+            while (queryResults.hasNext()) {
+                RDF4JResult result = new RDF4JResult(queryResults.next());
+                if (resultHandler != null) {
+                    // Results are not retained when handled one by one
+                    resultHandler.accept(result);
+                } else {
+                    resultList.add(result);
+                }
             }
-
-            resultList.add(result);
+        } finally {
+            queryResults.close();
         }
 
-        queryResults.close();
         return resultList;
     }
 
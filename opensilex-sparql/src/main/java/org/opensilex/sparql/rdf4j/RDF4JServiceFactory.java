@@ -116,6 +116,7 @@ public class RDF4JServiceFactory extends SPARQLServiceFactory {
         sparql.setOpenSilex(getOpenSilex());
         sparql.setMapperIndex(getMapperIndex());
         sparql.setDefaultLang(getDefaultLanguage());
+        sparql.setCountCache(getCountCache());
         sparql.setup();
         return sparql;
     }
@@ -10,6 +10,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.apache.jena.arq.querybuilder.AskBuilder;
 import org.apache.jena.arq.querybuilder.ConstructBuilder;
 import org.apache.jena.arq.querybuilder.DescribeBuilder;
@@ -38,12 +39,34 @@ public interface SPARQLConnection extends Service {
 
     public List<SPARQLStatement> executeConstructQuery(ConstructBuilder construct) throws SPARQLException;
 
+    /**
+     * Execute select query.
+     *
+     * @param select select query
+     * @param resultHandler handler called for each result, if given results
+     * are not retained and an empty list is returned
+     * @return list of results or empty list if a result handler is given
+     * @throws SPARQLException in case of query error
+     */
     public List<SPARQLResult> executeSelectQuery(SelectBuilder select, Consumer<SPARQLResult> resultHandler) throws SPARQLException;
 
     public default List<SPARQLResult> executeSelectQuery(SelectBuilder select) throws SPARQLException {
         return executeSelectQuery(select, null);
     }
 
+    /**
+     * Execute select query and return results as a stream read on demand from
+     * the triplestore, stream must be closed after use to release the query
+     * result.
+     *
+     * @param select select query
+     * @return stream of results
+     * @throws SPARQLException in case of query error
+     */
+    public default Stream<SPARQLResult> executeSelectQueryAsStream(SelectBuilder select) throws SPARQLException {
+        return executeSelectQuery(select).stream();
+    }
+
     public void executeUpdateQuery(UpdateBuilder update) throws SPARQLException;
 
     public void executeDeleteQuery(UpdateBuilder update) throws SPARQLException;
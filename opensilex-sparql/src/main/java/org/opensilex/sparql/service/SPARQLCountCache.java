@@ -0,0 +1,105 @@
+//******************************************************************************
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRA 2019
+// Contact: vincent.migot@inra.fr, anne.tireau@inra.fr, pascal.neveu@inra.fr
+//******************************************************************************
+package org.opensilex.sparql.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short lived cache for count query results.
+ *
+ * Count results are indexed by the complete count query string, which include
+ * graph, model class pattern and all filters, so two identical searches share
+ * the same total until the entry expires or any update is done on the
+ * repository.
+ *
+ * @author vincent
+ */
+public class SPARQLCountCache {
+
+    /**
+     * Default time to live for count results in milliseconds.
+     */
+    public final static long DEFAULT_TTL = 30000;
+
+    /**
+     * Maximum number of count results kept in cache.
+     */
+    public final static int MAX_SIZE = 1000;
+
+    private final long ttl;
+
+    private final Map<String, CountEntry> counts = new ConcurrentHashMap<>();
+
+    public SPARQLCountCache() {
+        this(DEFAULT_TTL);
+    }
+
+    public SPARQLCountCache(long ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * Return cached count for the given query if not expired.
+     *
+     * @param countQuery count query string
+     * @return cached count or null
+     */
+    public Integer get(String countQuery) {
+        CountEntry entry = counts.get(countQuery);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expiration < System.currentTimeMillis()) {
+            counts.remove(countQuery, entry);
+            return null;
+        }
+
+        return entry.count;
+    }
+
+    /**
+     * Store count result for the given query.
+     *
+     * @param countQuery count query string
+     * @param count count result
+     */
+    public void put(String countQuery, int count) {
+        if (ttl <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (counts.size() >= MAX_SIZE) {
+            counts.values().removeIf(entry -> entry.expiration < now);
+            if (counts.size() >= MAX_SIZE) {
+                counts.clear();
+            }
+        }
+
+        counts.put(countQuery, new CountEntry(count, now + ttl));
+    }
+
+    /**
+     * Remove all cached counts, must be called after any repository update.
+     */
+    public void invalidate() {
+        counts.clear();
+    }
+
+    private static class CountEntry {
+
+        private final int count;
+
+        private final long expiration;
+
+        private CountEntry(int count, long expiration) {
+            this.count = count;
+            this.expiration = expiration;
+        }
+    }
+}
@@ -47,15 +47,24 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.apache.jena.arq.querybuilder.ExprFactory;
 import org.apache.jena.arq.querybuilder.handlers.WhereHandler;
+import org.apache.jena.sparql.syntax.ElementGroup;
 import org.apache.jena.sparql.syntax.ElementNamedGraph;
+import org.apache.jena.sparql.syntax.ElementUnion;
 import org.eclipse.rdf4j.model.vocabulary.OWL;
 import org.opensilex.OpenSilex;
 import org.opensilex.service.BaseService;
@@ -89,6 +98,8 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
 
     private String defaultLang = OpenSilex.DEFAULT_LANGUAGE;
 
+    private SPARQLCountCache countCache;
+
     public void setDefaultLang(String lang) {
         this.defaultLang = lang;
     }
@@ -97,6 +108,63 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
         return this.defaultLang;
     }
 
+    public void setCountCache(SPARQLCountCache countCache) {
+        this.countCache = countCache;
+    }
+
+    public SPARQLCountCache getCountCache() {
+        return this.countCache;
+    }
+
+    /**
+     * Remove cached search totals, must be called after any update made on
+     * the repository connection without this service.
+     */
+    public void invalidateCountCache() {
+        if (countCache != null) {
+            countCache.invalidate();
+        }
+    }
+
+    private final static AtomicLong ontologyVersion = new AtomicLong();
+
+    /**
+     * Return ontologies version, updated each time ontologies are loaded so
+     * caches computed from ontologies can detect they must be rebuilt.
+     *
+     * @return ontologies version
+     */
+    public static long getOntologyVersion() {
+        return ontologyVersion.get();
+    }
+
+    /**
+     * Update ontologies version, must be called after any ontology change.
+     */
+    public static void updateOntologyVersion() {
+        ontologyVersion.incrementAndGet();
+    }
+
+    /**
+     * Maximum time in milliseconds ontology based caches are kept.
+     *
+     * Ontologies may be installed or reset by another process (i.e. command
+     * line) which can't update version of this one, so caches must expire.
+     */
+    public final static long ONTOLOGY_CACHE_TTL = 600000;
+
+    /**
+     * Check if a value computed from ontologies can still be used.
+     *
+     * @param version ontologies version the value was computed with
+     * @param loadTime time in milliseconds the value was computed at
+     * @return true if ontologies version did not change and value is not
+     * older than {@link #ONTOLOGY_CACHE_TTL}
+     */
+    public static boolean isOntologyCacheValid(long version, long loadTime) {
+        return version == getOntologyVersion() && System.currentTimeMillis() - loadTime < ONTOLOGY_CACHE_TTL;
+    }
+
     @Override
     public void setup() throws Exception {
         connection.setOpenSilex(getOpenSilex());
@@ -216,6 +284,15 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
         return connection.executeSelectQuery(select, resultHandler);
     }
 
+    @Override
+    public Stream<SPARQLResult> executeSelectQueryAsStream(SelectBuilder select) throws SPARQLException {
+        addPrefixes(select);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("SPARQL SELECT STREAM\n" + select.buildString());
+        }
+        return connection.executeSelectQueryAsStream(select);
+    }
+
     @Override
     public void executeUpdateQuery(UpdateBuilder update) throws SPARQLException {
         addPrefixes(update);
@@ -223,6 +300,7 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
             LOGGER.debug("SPARQL UPDATE\n" + update.build().toString());
         }
         connection.executeUpdateQuery(update);
+        invalidateCountCache();
     }
 
     @Override
@@ -232,6 +310,7 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
             LOGGER.debug("SPARQL DELETE\n" + delete.buildRequest().toString());
         }
         connection.executeDeleteQuery(delete);
+        invalidateCountCache();
     }
 
     private int transactionLevel = 0;
@@ -251,6 +330,7 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
         if (transactionLevel == 0) {
             LOGGER.debug("SPARQL TRANSACTION COMMIT");
             connection.commitTransaction();
+            invalidateCountCache();
         }
     }
 
@@ -260,6 +340,7 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
             LOGGER.error("SPARQL TRANSACTION ROLLBACK: ", ex);
             transactionLevel = 0;
             connection.rollbackTransaction(ex);
+            invalidateCountCache();
         }
     }
 
@@ -271,11 +352,13 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
     public void clearGraph(URI graph) throws SPARQLException {
         LOGGER.debug("SPARQL CLEAR GRAPH: " + graph);
         connection.clearGraph(graph);
+        invalidateCountCache();
     }
 
     public void clearGraph(String graph) throws SPARQLException, URISyntaxException {
         LOGGER.debug("SPARQL CLEAR GRAPH: " + graph);
         connection.clearGraph(new URI(graph));
+        invalidateCountCache();
     }
 
     @Override
@@ -283,6 +366,7 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
         disableSHACL();
         LOGGER.debug("MOVE GRAPH " + oldGraphURI + " TO " + newGraphURI);
         connection.renameGraph(oldGraphURI, newGraphURI);
+        invalidateCountCache();
         enableSHACL();
     }
 
@@ -290,11 +374,14 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
     public void clear() throws SPARQLException {
         LOGGER.debug("SPARQL CLEAR REPOSITORY");
         connection.clear();
+        invalidateCountCache();
     }
 
     public void loadOntology(URI graph, InputStream ontology, Lang format) throws SPARQLException {
         LOGGER.debug("SPARQL LOAD " + format.getName() + " FILE INTO GRAPH: " + graph.toString());
         connection.loadOntology(graph, ontology, format);
+        invalidateCountCache();
+        updateOntologyVersion();
     }
 
     public <T extends SPARQLResourceModel> T getByURI(Class<T> objectClass, URI uri, String lang) throws Exception {
@@ -489,12 +576,11 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
         if (lang == null) {
             lang = getDefaultLang();
         }
-        List<T> list = search(graph, objectClass, lang, filterHandler);
+        SPARQLTreeListModel<T> tree = new SPARQLTreeListModel<T>(SPARQLDeserializers.formatURI(root), excludeRoot);
 
-        SPARQLTreeListModel<T> tree = new SPARQLTreeListModel<T>(list, SPARQLDeserializers.formatURI(root), excludeRoot);
-
-        for (T item : list) {
-            tree.addTree(item);
+        // Results are added to the tree while read, without keeping an intermediate list
+        try (Stream<T> stream = searchAsStream(graph, objectClass, lang, filterHandler, null)) {
+            stream.forEach(tree::addSelection);
         }
 
         return tree;
@@ -533,6 +619,89 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
     }
 
     public <T extends SPARQLResourceModel> List<T> search(Node graph, Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler, List<OrderBy> orderByList, Integer page, Integer pageSize) throws Exception {
+        return search(graph, objectClass, lang, filterHandler, orderByList, page, pageSize, null);
+    }
+
+    /**
+     * Search a page of results.
+     *
+     * @param fetchFields names of list fields to load for the whole page with
+     * one query per field instead of one lazy query per result, may be null
+     */
+    public <T extends SPARQLResourceModel> List<T> search(Node graph, Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler, List<OrderBy> orderByList, Integer page, Integer pageSize, Collection<String> fetchFields) throws Exception {
+        if (page == null || page < 0) {
+            page = 0;
+        }
+
+        List<T> resultList;
+        if (pageSize != null && pageSize > 0) {
+            resultList = searchWithOffset(graph, objectClass, lang, filterHandler, orderByList, page * pageSize, pageSize);
+        } else {
+            resultList = searchWithOffset(graph, objectClass, lang, filterHandler, orderByList, null, null);
+        }
+
+        fetchListFields(objectClass, resultList, lang, fetchFields);
+
+        return resultList;
+    }
+
+    public <T extends SPARQLResourceModel> void fetchListFields(Class<T> objectClass, List<T> instances, String lang, Collection<String> fetchFields) throws Exception {
+        if (fetchFields == null || fetchFields.isEmpty()) {
+            return;
+        }
+
+        if (lang == null) {
+            lang = getDefaultLang();
+        }
+
+        SPARQLClassObjectMapper<T> mapper = getMapperIndex().getForClass(objectClass);
+        mapper.fetchListFields(instances, fetchFields, lang, this);
+    }
+
+    /**
+     * Search all results as a stream of instances built on demand while the
+     * stream is consumed, so only the current result is kept in memory.
+     *
+     * Stream must be closed after use, for example with a try-with-resources
+     * statement, and consumed before this service is closed. Errors while
+     * creating instances are thrown as runtime exceptions.
+     *
+     * @param <T> model class
+     * @param graph graph to search in
+     * @param objectClass model class
+     * @param lang language
+     * @param filterHandler query filter handler, may be null
+     * @param orderByList results order, may be null
+     * @return stream of instances
+     * @throws Exception in case of query error
+     */
+    public <T extends SPARQLResourceModel> Stream<T> searchAsStream(Node graph, Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler, List<OrderBy> orderByList) throws Exception {
+        String language;
+        if (lang == null) {
+            language = getDefaultLang();
+        } else {
+            language = lang;
+        }
+
+        SPARQLClassObjectMapper<T> mapper = getMapperIndex().getForClass(objectClass);
+        SelectBuilder select = getSearchSelectBuilder(mapper, graph, language, filterHandler, orderByList, null, null);
+
+        return executeSelectQueryAsStream(select).map((SPARQLResult result) -> {
+            try {
+                return mapper.createInstance(graph, result, language, this);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new RuntimeException(ex);
+            }
+        });
+    }
+
+    public <T extends SPARQLResourceModel> Stream<T> searchAsStream(Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler) throws Exception {
+        return searchAsStream(getDefaultGraph(objectClass), objectClass, lang, filterHandler, null);
+    }
+
+    private <T extends SPARQLResourceModel> List<T> searchWithOffset(Node graph, Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler, List<OrderBy> orderByList, Integer offset, Integer limit) throws Exception {
         SPARQLClassObjectMapperIndex mapperIndex = getMapperIndex();
         String language;
         if (lang == null) {
@@ -542,6 +711,17 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
         }
 
         SPARQLClassObjectMapper<T> mapper = mapperIndex.getForClass(objectClass);
+        SelectBuilder select = getSearchSelectBuilder(mapper, graph, language, filterHandler, orderByList, offset, limit);
+
+        List<T> resultList = new ArrayList<>();
+        executeSelectQuery(select, ThrowingConsumer.wrap((SPARQLResult result) -> {
+            resultList.add(mapper.createInstance(graph, result, language, this));
+        }, Exception.class));
+
+        return resultList;
+    }
+
+    private <T extends SPARQLResourceModel> SelectBuilder getSearchSelectBuilder(SPARQLClassObjectMapper<T> mapper, Node graph, String language, ThrowingConsumer<SelectBuilder, Exception> filterHandler, List<OrderBy> orderByList, Integer offset, Integer limit) throws Exception {
         SelectBuilder select = mapper.getSelectBuilder(graph, language);
 
         if (filterHandler != null) {
@@ -557,21 +737,12 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
             });
         }
 
-        if (page == null || page < 0) {
-            page = 0;
-        }
-
-        if (pageSize != null && pageSize > 0) {
-            select.setOffset(page * pageSize);
-            select.setLimit(pageSize);
+        if (offset != null && limit != null) {
+            select.setOffset(offset);
+            select.setLimit(limit);
         }
 
-        List<T> resultList = new ArrayList<>();
-        executeSelectQuery(select, ThrowingConsumer.wrap((SPARQLResult result) -> {
-            resultList.add(mapper.createInstance(graph, result, language, this));
-        }, Exception.class));
-
-        return resultList;
+        return select;
     }
 
     public <T extends SPARQLResourceModel> int count(Class<T> objectClass) throws Exception {
@@ -587,6 +758,10 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
     }
 
     public <T extends SPARQLResourceModel> int count(Node graph, Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler) throws Exception {
+        return count(graph, objectClass, lang, filterHandler, false);
+    }
+
+    private <T extends SPARQLResourceModel> int count(Node graph, Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler, boolean useCache) throws Exception {
         SPARQLClassObjectMapperIndex mapperIndex = getMapperIndex();
         if (lang == null) {
             lang = getDefaultLang();
@@ -598,10 +773,24 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
             filterHandler.accept(selectCount);
         }
 
+        String countQuery = null;
+        if (useCache && countCache != null) {
+            countQuery = selectCount.buildString();
+            Integer cachedCount = countCache.get(countQuery);
+            if (cachedCount != null) {
+                LOGGER.debug("SPARQL COUNT CACHE HIT");
+                return cachedCount;
+            }
+        }
+
         List<SPARQLResult> resultSet = executeSelectQuery(selectCount);
 
         if (resultSet.size() == 1) {
-            return Integer.valueOf(resultSet.get(0).getStringValue("count"));
+            int count = Integer.valueOf(resultSet.get(0).getStringValue("count"));
+            if (countQuery != null) {
+                countCache.put(countQuery, count);
+            }
+            return count;
         } else {
             throw new SPARQLException("Invalid count query");
         }
@@ -620,16 +809,30 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
     }
 
     public <T extends SPARQLResourceModel> ListWithPagination<T> searchWithPagination(Node graph, Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler, List<OrderBy> orderByList, Integer page, Integer pageSize) throws Exception {
+        return searchWithPagination(graph, objectClass, lang, filterHandler, orderByList, page, pageSize, null);
+    }
+
+    public <T extends SPARQLResourceModel> ListWithPagination<T> searchWithPagination(Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler, List<OrderBy> orderByList, Integer page, Integer pageSize, Collection<String> fetchFields) throws Exception {
+        return searchWithPagination(getDefaultGraph(objectClass), objectClass, lang, filterHandler, orderByList, page, pageSize, fetchFields);
+    }
+
+    /**
+     * Search a page of results and count total results.
+     *
+     * @param fetchFields names of list fields to load for the whole page with
+     * one query per field instead of one lazy query per result, may be null
+     */
+    public <T extends SPARQLResourceModel> ListWithPagination<T> searchWithPagination(Node graph, Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler, List<OrderBy> orderByList, Integer page, Integer pageSize, Collection<String> fetchFields) throws Exception {
         if (lang == null) {
             lang = getDefaultLang();
         }
-        int total = count(graph, objectClass, lang, filterHandler);
+        int total = count(graph, objectClass, lang, filterHandler, true);
 
         List<T> list;
         if (pageSize == null || pageSize == 0) {
-            list = search(graph, objectClass, lang, filterHandler, orderByList);
+            list = search(graph, objectClass, lang, filterHandler, orderByList, null, null, fetchFields);
         } else if (total > 0 && (page * pageSize) < total) {
-            list = search(graph, objectClass, lang, filterHandler, orderByList, page, pageSize);
+            list = search(graph, objectClass, lang, filterHandler, orderByList, page, pageSize, fetchFields);
         } else {
             list = new ArrayList<>();
         }
@@ -637,6 +840,47 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
         return new ListWithPagination<>(list, page, pageSize, total);
     }
 
+    public <T extends SPARQLResourceModel> ListWithPagination<T> searchWithoutTotal(Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler, List<OrderBy> orderByList, Integer page, Integer pageSize) throws Exception {
+        return searchWithoutTotal(getDefaultGraph(objectClass), objectClass, lang, filterHandler, orderByList, page, pageSize);
+    }
+
+    /**
+     * Search a page of results without counting all matching results, usefull
+     * for infinite scrolling. Only one query is sent to the triplestore,
+     * fetching one more element than the page size to know if a next page
+     * exists.
+     *
+     * Returned total is not the real total but a lower bound: it is greater
+     * than the last element index of the current page only if a next page
+     * exists.
+     */
+    public <T extends SPARQLResourceModel> ListWithPagination<T> searchWithoutTotal(Node graph, Class<T> objectClass, String lang, ThrowingConsumer<SelectBuilder, Exception> filterHandler, List<OrderBy> orderByList, Integer page, Integer pageSize) throws Exception {
+        if (pageSize == null || pageSize <= 0) {
+            return new ListWithPagination<>(search(graph, objectClass, lang, filterHandler, orderByList));
+        }
+
+        if (page == null || page < 0) {
+            page = 0;
+        }
+
+        List<T> list = searchWithOffset(graph, objectClass, lang, filterHandler, orderByList, page * pageSize, pageSize + 1);
+
+        int total = page * pageSize + list.size();
+        if (list.size() > pageSize) {
+            list = list.subList(0, pageSize);
+        }
+
+        return new ListWithPagination<>(list, page, pageSize, total);
+    }
+
+    /**
+     * Default maximum number of instances inserted by a single query in bulk
+     * creation.
+     */
+    public final static int DEFAULT_CREATE_CHUNK_SIZE = 1000;
+
+    private final static int MAX_URI_GENERATION_RETRY = 1000;
+
     public <T extends SPARQLResourceModel> void create(T instance) throws Exception {
         create(getDefaultGraph(instance.getClass()), instance);
     }
@@ -686,19 +930,214 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
     }
 
     public <T extends SPARQLResourceModel> void create(Node graph, List<T> instances) throws Exception {
+        create(graph, instances, DEFAULT_CREATE_CHUNK_SIZE);
+    }
+
+    /**
+     * Create all instances in one transaction.
+     *
+     * Existence of given URIs is checked for the whole list with one query by
+     * chunk of URIs, missing URIs are generated in memory without collisions
+     * inside the list, then checked the same way. Dependent resources without
+     * URI are created the same way and instances are inserted by chunks of
+     * chunkSize instances.
+     *
+     * @param <T> model class
+     * @param graph graph to insert instances in
+     * @param instances instances to create
+     * @param chunkSize maximum number of instances by insert query
+     * @throws Exception if an URI already exists, validation fails or in case
+     * of query error
+     */
+    public <T extends SPARQLResourceModel> void create(Node graph, List<T> instances, int chunkSize) throws Exception {
+        if (instances.isEmpty()) {
+            return;
+        }
+
         SPARQLClassObjectMapperIndex mapperIndex = getMapperIndex();
+        int size = Math.max(1, chunkSize);
+        long start = System.currentTimeMillis();
+
+        try {
+            startTransaction();
 
-        if (instances.size() > 0) {
-            UpdateBuilder create = new UpdateBuilder();
             validate(instances);
-            for (T instance : instances) {
+            prepareInstancesCreation(instances, size);
+
+            int chunkCount = (instances.size() + size - 1) / size;
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                long chunkStart = System.currentTimeMillis();
+                List<T> chunkInstances = instances.subList(chunk * size, Math.min((chunk + 1) * size, instances.size()));
+
+                UpdateBuilder create = new UpdateBuilder();
+                for (T instance : chunkInstances) {
+                    SPARQLClassObjectMapper<T> mapper = mapperIndex.getForClass(instance.getClass());
+                    mapper.addCreateBuilder(graph, instance, create);
+                }
+                executeUpdateQuery(create);
+
+                if (LOGGER.isDebugEnabled()) {
+                    long duration = System.currentTimeMillis() - chunkStart;
+                    LOGGER.debug("SPARQL BULK CREATE chunk " + (chunk + 1) + "/" + chunkCount + ": " + chunkInstances.size() + " instances in " + duration + " ms (" + getThroughput(chunkInstances.size(), duration) + " instances/s)");
+                }
+            }
+
+            commitTransaction();
+        } catch (Exception ex) {
+            rollbackTransaction(ex);
+            throw ex;
+        }
+
+        if (instances.size() >= size) {
+            long duration = System.currentTimeMillis() - start;
+            LOGGER.info("SPARQL BULK CREATE: " + instances.size() + " instances in " + duration + " ms (" + getThroughput(instances.size(), duration) + " instances/s)");
+        }
+    }
+
+    private static long getThroughput(int count, long duration) {
+        return count * 1000L / Math.max(1, duration);
+    }
+
+    private <T extends SPARQLResourceModel> void prepareInstancesCreation(List<T> instances, int chunkSize) throws Exception {
+        SPARQLClassObjectMapperIndex mapperIndex = getMapperIndex();
+
+        Set<String> batchURIs = new HashSet<>();
+        List<URI> givenURIs = new ArrayList<>();
+        List<T> instancesWithoutURI = new ArrayList<>();
+
+        for (T instance : instances) {
+            SPARQLClassObjectMapper<T> mapper = mapperIndex.getForClass(instance.getClass());
+            if (instance.getType() == null) {
+                instance.setType(new URI(mapper.getRDFType().getURI()));
+            }
+
+            URI uri = mapper.getURI(instance);
+            if (uri == null) {
+                instancesWithoutURI.add(instance);
+            } else if (batchURIs.add(SPARQLDeserializers.getExpandedURI(uri.toString()))) {
+                givenURIs.add(uri);
+            } else {
+                throw new SPARQLAlreadyExistingUriException(uri);
+            }
+        }
+
+        Set<URI> existingURIs = getExistingURIs(givenURIs, chunkSize);
+        if (!existingURIs.isEmpty()) {
+            throw new SPARQLAlreadyExistingUriException(existingURIs.iterator().next());
+        }
+
+        generateUniqueURIs(instancesWithoutURI, batchURIs, chunkSize);
+
+        // Create dependent resources by class in their default graph
+        Set<SPARQLResourceModel> dependentResources = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Class<? extends SPARQLResourceModel>, List<SPARQLResourceModel>> dependentResourcesByClass = new LinkedHashMap<>();
+        for (T instance : instances) {
+            SPARQLClassObjectMapper<T> mapper = mapperIndex.getForClass(instance.getClass());
+            for (SPARQLResourceModel subInstance : mapper.getAllDependentResourcesToCreate(instance)) {
+                if (dependentResources.add(subInstance)) {
+                    dependentResourcesByClass.computeIfAbsent(subInstance.getClass(), (key) -> new ArrayList<>()).add(subInstance);
+                }
+            }
+        }
+
+        for (Map.Entry<Class<? extends SPARQLResourceModel>, List<SPARQLResourceModel>> dependentResourcesEntry : dependentResourcesByClass.entrySet()) {
+            create(getDefaultGraph(dependentResourcesEntry.getKey()), dependentResourcesEntry.getValue(), chunkSize);
+        }
+    }
+
+    /**
+     * Generate URIs of the given instances in memory, skipping URIs already
+     * used in the batch, then check all generated URIs against the
+     * triplestore and generate again the existing ones until none exists.
+     */
+    private <T extends SPARQLResourceModel> void generateUniqueURIs(List<T> instances, Set<String> batchURIs, int chunkSize) throws Exception {
+        SPARQLClassObjectMapperIndex mapperIndex = getMapperIndex();
+
+        int[] retries = new int[instances.size()];
+        List<Integer> pendingIndexes = new ArrayList<>();
+        for (int i = 0; i < instances.size(); i++) {
+            pendingIndexes.add(i);
+        }
+
+        while (!pendingIndexes.isEmpty()) {
+            Map<URI, Integer> generatedURIs = new LinkedHashMap<>();
+            for (int i : pendingIndexes) {
+                T instance = instances.get(i);
                 SPARQLClassObjectMapper<T> mapper = mapperIndex.getForClass(instance.getClass());
-                prepareInstanceCreation(instance, mapper, true);
-                mapper.addCreateBuilder(graph, instance, create);
+                URIGenerator<T> uriGenerator = mapper.getUriGenerator(instance);
+                String graphPrefix = getDefaultGraph(instance.getClass()).toString();
+
+                URI uri = uriGenerator.generateURI(graphPrefix, instance, retries[i]);
+                while (!batchURIs.add(SPARQLDeserializers.getExpandedURI(uri.toString()))) {
+                    if (retries[i] >= MAX_URI_GENERATION_RETRY) {
+                        throw new SPARQLException("Unable to generate an unique URI, last generated: " + uri);
+                    }
+                    uri = uriGenerator.generateURI(graphPrefix, instance, ++retries[i]);
+                }
+
+                mapper.setUri(instance, uri);
+                generatedURIs.put(uri, i);
             }
 
-            executeUpdateQuery(create);
+            pendingIndexes = new ArrayList<>();
+            for (URI existingURI : getExistingURIs(generatedURIs.keySet(), chunkSize)) {
+                int i = generatedURIs.get(existingURI);
+                retries[i]++;
+                pendingIndexes.add(i);
+            }
+        }
+    }
+
+    /**
+     * Return URIs of the given list already used as subject or object in the
+     * triplestore, with one query by chunk of URIs.
+     *
+     * @param uris URIs to check
+     * @param chunkSize maximum number of URIs by query
+     * @return existing URIs from the given list
+     * @throws Exception in case of query error
+     */
+    public Set<URI> getExistingURIs(Collection<URI> uris, int chunkSize) throws Exception {
+        Set<URI> existingURIs = new LinkedHashSet<>();
+        if (uris.isEmpty()) {
+            return existingURIs;
+        }
+
+        Var uriVar = makeVar(SPARQLResourceModel.URI_FIELD);
+        Var s = makeVar("s");
+        Var p = makeVar("p");
+        Var o = makeVar("o");
+
+        List<URI> uriList = new ArrayList<>(uris);
+        for (int from = 0; from < uriList.size(); from += chunkSize) {
+            Map<String, URI> urisByExpandedURI = new HashMap<>();
+            for (URI uri : uriList.subList(from, Math.min(from + chunkSize, uriList.size()))) {
+                urisByExpandedURI.put(SPARQLDeserializers.getExpandedURI(uri.toString()), uri);
+            }
+
+            ElementGroup asSubject = new ElementGroup();
+            asSubject.addTriplePattern(new Triple(uriVar, p, o));
+            ElementGroup asObject = new ElementGroup();
+            asObject.addTriplePattern(new Triple(s, p, uriVar));
+            ElementUnion union = new ElementUnion();
+            union.addElement(asSubject);
+            union.addElement(asObject);
+
+            SelectBuilder select = new SelectBuilder();
+            select.setDistinct(true);
+            select.addVar(uriVar);
+            SPARQLQueryHelper.addWhereValues(select, uriVar.getVarName(), urisByExpandedURI.values());
+            select.getWhereHandler().getClause().addElement(union);
+
+            for (SPARQLResult result : executeSelectQuery(select)) {
+                URI uri = urisByExpandedURI.get(SPARQLDeserializers.getExpandedURI(result.getStringValue(SPARQLResourceModel.URI_FIELD)));
+                if (uri != null) {
+                    existingURIs.add(uri);
+                }
+            }
         }
+
+        return existingURIs;
     }
 
     private <T extends SPARQLResourceModel> void generateUniqueUriIfNullOrValidateCurrent(SPARQLClassObjectMapper<T> mapper, T instance, boolean checkUriExist) throws Exception {
@@ -1011,6 +1450,49 @@ public class SPARQLService extends BaseService implements SPARQLConnection, Serv
         );
     }
 
+    /**
+     * Filter a list of URIs in a single query, keeping only the ones which are instances of rdfType or of one of its sub-classes.
+     *
+     * @param rdfType the {@link RDF#type} to check
+     * @param uris the {@link URI} list to filter
+     * @return URIs from the given list which exists in the TripleStore as instances of rdfType, in the same order
+     * @throws Exception in case of query error
+     */
+    public Set<URI> filterURIsByType(URI rdfType, Collection<URI> uris) throws Exception {
+        Set<URI> filteredUris = new LinkedHashSet<>();
+        if (uris == null || uris.isEmpty()) {
+            return filteredUris;
+        }
+
+        Map<String, URI> urisByExpandedURI = new HashMap<>();
+        for (URI uri : uris) {
+            urisByExpandedURI.put(SPARQLDeserializers.getExpandedURI(uri.toString()), uri);
+        }
+
+        Var uriVar = makeVar(SPARQLResourceModel.URI_FIELD);
+        Var typeVar = makeVar("type");
+
+        SelectBuilder select = new SelectBuilder();
+        select.setDistinct(true);
+        select.addVar(uriVar);
+        SPARQLQueryHelper.addWhereValues(select, uriVar.getVarName(), urisByExpandedURI.values());
+        select.addWhere(uriVar, RDF.type, typeVar);
+        select.addWhere(typeVar, Ontology.subClassAny, SPARQLDeserializers.nodeURI(rdfType));
+
+        Set<String> existingURIs = new HashSet<>();
+        for (SPARQLResult result : executeSelectQuery(select)) {
+            existingURIs.add(SPARQLDeserializers.getExpandedURI(result.getStringValue(SPARQLResourceModel.URI_FIELD)));
+        }
+
+        for (URI uri : uris) {
+            if (existingURIs.contains(SPARQLDeserializers.getExpandedURI(uri.toString()))) {
+                filteredUris.add(uri);
+            }
+        }
+
+        return filteredUris;
+    }
+
     public <T extends SPARQLResourceModel> AskBuilder getUriExistsQuery(Class<T> objectClass, URI uri) throws SPARQLException {
         SPARQLClassObjectMapper<T> mapper = getMapperIndex().getForClass(objectClass);
 
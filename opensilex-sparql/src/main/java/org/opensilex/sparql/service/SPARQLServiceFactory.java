@@ -63,6 +63,8 @@ public abstract class SPARQLServiceFactory extends ServiceFactory<SPARQLService>
 
     private SPARQLModule sparqlModule;
 
+    private final SPARQLCountCache countCache = new SPARQLCountCache();
+
     @Override
     public void setup() throws Exception {
         sparqlModule = getOpenSilex().getModuleByClass(SPARQLModule.class);
@@ -115,4 +117,8 @@ public abstract class SPARQLServiceFactory extends ServiceFactory<SPARQLService>
         return mapperIndex;
     }
 
+    public SPARQLCountCache getCountCache() {
+        return countCache;
+    }
+
 }
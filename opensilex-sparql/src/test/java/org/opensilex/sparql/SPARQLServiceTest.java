@@ -24,16 +24,20 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 import org.opensilex.sparql.deserializer.SPARQLDeserializers;
+import org.opensilex.sparql.exceptions.SPARQLAlreadyExistingUriException;
 import org.opensilex.sparql.exceptions.SPARQLException;
+import org.opensilex.sparql.mapping.SPARQLProxyMarker;
 import org.opensilex.sparql.model.C;
 import org.opensilex.sparql.model.SPARQLLabel;
 import org.opensilex.sparql.service.SPARQLQueryHelper;
 import static org.opensilex.sparql.service.SPARQLQueryHelper.makeVar;
 import org.opensilex.sparql.service.SPARQLService;
 import org.opensilex.unit.test.AbstractUnitTest;
+import org.opensilex.utils.ListWithPagination;
 
 /**
  *
@@ -349,4 +353,132 @@ public abstract class SPARQLServiceTest extends AbstractUnitTest {
         assertEquals(1, results.size());
     }
 
+    @Test
+    public void testFetchListFields() throws Exception {
+        B b = new B();
+        b.setBool(true);
+        b.setFloatVar(12f);
+        b.setDoubleVar(0d);
+        b.setCharVar('F');
+        b.setShortVar((short) 0);
+
+        List<String> stringList = Arrays.asList("fetch1", "fetch2", "fetch3");
+        b.setStringList(stringList);
+
+        sparql.create(b);
+
+        List<B> results = sparql.searchWithPagination(
+                B.class,
+                null,
+                (SelectBuilder select) -> {
+                    select.addFilter(SPARQLQueryHelper.eq(B.URI_FIELD, b.getUri()));
+                },
+                null,
+                0,
+                10,
+                Collections.singletonList("stringList")
+        ).getList();
+
+        assertEquals(1, results.size());
+
+        List<String> fetchedList = results.get(0).getStringList();
+        assertFalse("Fetched list must not be a lazy proxy", fetchedList instanceof SPARQLProxyMarker);
+        assertEquals(3, fetchedList.size());
+        assertTrue(fetchedList.containsAll(stringList));
+    }
+
+    @Test
+    public void testSearchWithoutTotal() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            B b = new B();
+            b.setFloatVar(45f);
+            b.setDoubleVar(0d);
+            b.setCharVar('Z');
+            b.setShortVar((short) i);
+            sparql.create(b);
+        }
+
+        int count = sparql.count(B.class);
+
+        ListWithPagination<B> firstPage = sparql.searchWithoutTotal(B.class, null, null, null, 0, 1);
+        assertEquals(1, firstPage.getList().size());
+        assertTrue("Total must tell a next page exists", firstPage.getTotal() > 1);
+
+        ListWithPagination<B> lastPage = sparql.searchWithoutTotal(B.class, null, null, null, count - 1, 1);
+        assertEquals(1, lastPage.getList().size());
+        assertEquals("Total must be exact on last page", count, lastPage.getTotal());
+
+        ListWithPagination<B> afterLastPage = sparql.searchWithoutTotal(B.class, null, null, null, count, 1);
+        assertTrue(afterLastPage.getList().isEmpty());
+    }
+
+    @Test
+    public void testCachedTotalInvalidation() throws Exception {
+        int total = sparql.searchWithPagination(B.class, null, null, 0, 1).getTotal();
+
+        B b = new B();
+        b.setFloatVar(45f);
+        b.setDoubleVar(0d);
+        b.setCharVar('Z');
+        b.setShortVar((short) 0);
+        sparql.create(b);
+
+        assertEquals("Cached total must be invalidated by creation", total + 1, sparql.searchWithPagination(B.class, null, null, 0, 1).getTotal());
+    }
+
+    @Test
+    public void testSearchAsStream() throws Exception {
+        List<A> list = sparql.search(A.class, null);
+        assertFalse(list.isEmpty());
+
+        Set<URI> streamedURIs = new HashSet<>();
+        try (Stream<A> stream = sparql.searchAsStream(A.class, null, null)) {
+            stream.forEach((A a) -> {
+                streamedURIs.add(a.getUri());
+            });
+        }
+
+        assertEquals(list.size(), streamedURIs.size());
+        for (A a : list) {
+            assertTrue(streamedURIs.contains(a.getUri()));
+        }
+    }
+
+    @Test
+    public void testBulkCreate() throws Exception {
+        List<B> bList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            B b = new B();
+            b.setFloatVar(45f);
+            b.setDoubleVar(0d);
+            b.setCharVar('Z');
+            b.setShortVar((short) i);
+            bList.add(b);
+        }
+
+        sparql.create(sparql.getDefaultGraph(B.class), bList, 2);
+
+        Set<URI> uris = new HashSet<>();
+        for (B b : bList) {
+            assertNotNull(b.getUri());
+            uris.add(b.getUri());
+        }
+        assertEquals("Generated URIs must be unique", bList.size(), uris.size());
+        assertTrue(sparql.uriListExists(B.class, uris));
+
+        B existingB = new B();
+        existingB.setUri(bList.get(0).getUri());
+        existingB.setFloatVar(45f);
+        existingB.setDoubleVar(0d);
+        existingB.setCharVar('Z');
+        existingB.setShortVar((short) 0);
+
+        try {
+            sparql.create(sparql.getDefaultGraph(B.class), Collections.singletonList(existingB), 2);
+            fail("Creating an existing URI must fail");
+        } catch (SPARQLAlreadyExistingUriException ex) {
+            assertEquals(existingB.getUri().toString(), ex.getUri());
+        }
+    }
+
 }
@@ -0,0 +1,162 @@
+//******************************************************************************
+//                          SPARQLClassObjectMapperBenchmark.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.sparql.mapping;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.opensilex.sparql.deserializer.SPARQLDeserializers;
+import org.opensilex.sparql.model.A;
+import org.opensilex.sparql.model.B;
+import org.opensilex.sparql.model.C;
+import org.opensilex.sparql.model.SPARQLResourceModel;
+import org.opensilex.sparql.service.SPARQLResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of model instances hydration from 10k SPARQL results, with
+ * precomputed fields binders and with reflection setters lookup for each
+ * value.
+ *
+ * Run it with "benchmark" profile, see
+ * {@link SPARQLClassQueryBuilderBenchmark}.
+ *
+ * @author Vincent Migot
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SPARQLClassObjectMapperBenchmark {
+
+    private final static int RESULT_SIZE = 10000;
+
+    private final static String LANG = "en";
+
+    private SPARQLClassObjectMapper<A> mapper;
+
+    private SPARQLClassAnalyzer analyzer;
+
+    private List<SPARQLResult> results;
+
+    @Setup
+    public void setup() throws Exception {
+        Set<Class<? extends SPARQLResourceModel>> classes = new HashSet<>();
+        classes.add(A.class);
+        classes.add(B.class);
+        classes.add(C.class);
+        SPARQLClassObjectMapperIndex mapperIndex = new SPARQLClassObjectMapperIndex(new URI("http://test.opensilex.org/"), classes);
+        mapper = mapperIndex.getForClass(A.class);
+        analyzer = new SPARQLClassAnalyzer(mapperIndex, A.class);
+
+        results = new ArrayList<>(RESULT_SIZE);
+        for (int i = 0; i < RESULT_SIZE; i++) {
+            Map<String, String> values = new HashMap<>();
+            values.put(mapper.getURIFieldName(), "http://test.opensilex.org/a/" + i);
+            values.put(mapper.getTypeFieldName(), "http://test.opensilex.org/ontology#A");
+            values.put(mapper.getTypeLabelFieldName(), "A");
+            values.put("b", "http://test.opensilex.org/b/" + (i % 100));
+            values.put("string", "value " + i);
+            values.put("integer", String.valueOf(i));
+            values.put("longVar", String.valueOf(i * 1000L));
+            values.put("bool", String.valueOf(i % 2 == 0));
+            values.put("floatVar", String.valueOf(i / 3f));
+            values.put("doubleVar", String.valueOf(i / 7d));
+            values.put("shortVar", String.valueOf(i % 100));
+            values.put("byteVar", String.valueOf(i % 100));
+            values.put("date", "2020-05-25");
+            values.put("datetime", "2020-05-25T10:00:00Z");
+            results.add(new MapResult(values));
+        }
+    }
+
+    @Benchmark
+    public void hydrateWithBinders(Blackhole blackhole) throws Exception {
+        for (SPARQLResult result : results) {
+            blackhole.consume(mapper.createInstance(null, result, LANG, null));
+        }
+    }
+
+    @Benchmark
+    public void dataFieldsWithBinders(Blackhole blackhole) throws Exception {
+        for (SPARQLResult result : results) {
+            A instance = new A();
+            for (SPARQLFieldBinder binder : analyzer.getDataPropertyBinders()) {
+                String strValue = result.getStringValue(binder.getName());
+                if (strValue != null) {
+                    binder.deserializeValue(instance, strValue);
+                }
+            }
+            blackhole.consume(instance);
+        }
+    }
+
+    @Benchmark
+    public void dataFieldsWithReflection(Blackhole blackhole) throws Exception {
+        for (SPARQLResult result : results) {
+            A instance = new A();
+            for (Field field : analyzer.getDataPropertyFields()) {
+                Method setter = analyzer.getSetterFromField(field);
+                String strValue = result.getStringValue(field.getName());
+                if (strValue != null) {
+                    setter.invoke(instance, SPARQLDeserializers.getForClass(field.getType()).fromString(strValue));
+                }
+            }
+            blackhole.consume(instance);
+        }
+    }
+
+    private static class MapResult implements SPARQLResult {
+
+        private final Map<String, String> values;
+
+        private MapResult(Map<String, String> values) {
+            this.values = values;
+        }
+
+        @Override
+        public String getStringValue(String key) {
+            return values.get(key);
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super String> action) {
+            values.forEach(action);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(SPARQLClassObjectMapperBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,111 @@
+//******************************************************************************
+//                          SPARQLClassQueryBuilderBenchmark.java
+// OpenSILEX - Licence AGPL V3.0 - https://www.gnu.org/licenses/agpl-3.0.en.html
+// Copyright © INRAE 2020
+// Contact: vincent.migot@inrae.fr, anne.tireau@inrae.fr, pascal.neveu@inrae.fr
+//******************************************************************************
+package org.opensilex.sparql.mapping;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.opensilex.sparql.model.A;
+import org.opensilex.sparql.model.B;
+import org.opensilex.sparql.model.C;
+import org.opensilex.sparql.model.SPARQLResourceModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of SPARQL queries build time for test models, comparing queries
+ * built from scratch and queries cloned from cached templates.
+ *
+ * Benchmarks sources are only generated with the "benchmark" profile, run it
+ * with:
+ * <pre>
+ * mvn -Pbenchmark -pl opensilex-sparql test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.opensilex.sparql.mapping.SPARQLClassQueryBuilderBenchmark
+ * </pre>
+ *
+ * @author Vincent Migot
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SPARQLClassQueryBuilderBenchmark {
+
+    private final static String COUNT_FIELD = "count";
+
+    private final static String LANG = "en";
+
+    @Param({"A", "B", "C"})
+    public String modelName;
+
+    private SPARQLClassObjectMapperIndex mapperIndex;
+
+    private SPARQLClassObjectMapper<SPARQLResourceModel> mapper;
+
+    private SPARQLClassAnalyzer analyzer;
+
+    @Setup
+    public void setup() throws Exception {
+        Set<Class<? extends SPARQLResourceModel>> classes = new HashSet<>();
+        classes.add(A.class);
+        classes.add(B.class);
+        classes.add(C.class);
+        mapperIndex = new SPARQLClassObjectMapperIndex(new URI("http://test.opensilex.org/"), classes);
+
+        Class<?> modelClass = Class.forName("org.opensilex.sparql.model." + modelName);
+        mapper = mapperIndex.getForClass(modelClass);
+        analyzer = new SPARQLClassAnalyzer(mapperIndex, modelClass);
+    }
+
+    @Benchmark
+    public String selectFromScratch() {
+        SPARQLClassQueryBuilder queryBuilder = new SPARQLClassQueryBuilder(mapperIndex, analyzer);
+        return queryBuilder.getSelectBuilder(mapper.getDefaultGraph(), LANG).buildString();
+    }
+
+    @Benchmark
+    public String selectFromTemplate() {
+        SelectBuilder select = mapper.getSelectBuilder(LANG);
+        select.setLimit(20);
+        select.setOffset(40);
+        return select.buildString();
+    }
+
+    @Benchmark
+    public String countFromScratch() {
+        SPARQLClassQueryBuilder queryBuilder = new SPARQLClassQueryBuilder(mapperIndex, analyzer);
+        return queryBuilder.getCountBuilder(mapper.getDefaultGraph(), COUNT_FIELD, LANG).buildString();
+    }
+
+    @Benchmark
+    public String countFromTemplate() {
+        return mapper.getCountBuilder(COUNT_FIELD, LANG).buildString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(SPARQLClassQueryBuilderBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -5,12 +5,29 @@
 //******************************************************************************
 package org.opensilex.sparql.rdf4j;
 
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.junit.AfterClass;
+import static org.junit.Assert.assertTrue;
 import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import org.opensilex.sparql.SPARQLServiceTest;
 import org.opensilex.sparql.model.A;
 import org.opensilex.sparql.model.B;
 import org.opensilex.sparql.model.C;
+import org.opensilex.sparql.service.SPARQLResult;
 
 /**
  *
@@ -39,4 +56,30 @@ public class RDF4JConnectionTest extends SPARQLServiceTest {
     public static void cleanSPARQL() throws Exception {
         factory.dispose(sparql);
     }
+
+    @Test
+    public void testStreamClosedOnEarlyTermination() throws Exception {
+        // Endless result: stream must be closed without reading all results
+        TupleQueryResult result = mock(TupleQueryResult.class);
+        when(result.hasNext()).thenReturn(true);
+        when(result.next()).thenReturn(mock(BindingSet.class));
+
+        TupleQuery query = mock(TupleQuery.class);
+        when(query.evaluate()).thenReturn(result);
+
+        RepositoryConnection repositoryConnection = mock(RepositoryConnection.class);
+        when(repositoryConnection.prepareTupleQuery(eq(QueryLanguage.SPARQL), anyString())).thenReturn(query);
+
+        RDF4JConnection connection = new RDF4JConnection(repositoryConnection);
+        SelectBuilder select = new SelectBuilder();
+        select.addVar("?s");
+        select.addWhere("?s", "?p", "?o");
+
+        try (Stream<SPARQLResult> stream = connection.executeSelectQueryAsStream(select)) {
+            Optional<SPARQLResult> first = stream.findFirst();
+            assertTrue(first.isPresent());
+        }
+
+        verify(result, times(1)).close();
+    }
 }